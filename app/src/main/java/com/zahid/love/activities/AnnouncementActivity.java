@@ -14,17 +14,15 @@ import androidx.recyclerview.widget.RecyclerView;
 import androidx.swiperefreshlayout.widget.SwipeRefreshLayout;
 
 import com.zahid.love.api.ApiClient;
-import com.zahid.love.models.api.ContentResponse;
 import com.zahid.love.R;
 import com.zahid.love.adapters.AnnouncementAdapter;
 import com.zahid.love.models.Announcement;
+import com.zahid.love.repository.AnnouncementFeed;
 import com.zahid.love.utils.ApiUtils;
 
 import java.util.ArrayList;
 import java.util.List;
 
-import retrofit2.Call;
-import retrofit2.Callback;
 import retrofit2.Response;
 
 public class AnnouncementActivity extends AppCompatActivity {
@@ -74,59 +72,45 @@ public class AnnouncementActivity extends AppCompatActivity {
     }
 
     private void loadAnnouncements() {
-        showLoading(true);
-        
-        ApiClient.getApiService().getHighlights().enqueue(new Callback<ContentResponse>() {
+        // Show the feed from the last visit straight away and only fetch what changed since
+        List<Announcement> cached = AnnouncementFeed.getCached();
+        if (cached != null) {
+            showAnnouncements(cached);
+        } else {
+            showLoading(true);
+        }
+
+        AnnouncementFeed.refresh(new AnnouncementFeed.Listener() {
             @Override
-            public void onResponse(Call<ContentResponse> call, Response<ContentResponse> response) {
+            public void onFeedUpdated(List<Announcement> announcements) {
+                if (isFinishing() || isDestroyed()) return;
                 showLoading(false);
                 swipeRefreshLayout.setRefreshing(false);
-                
-                if (response.isSuccessful() && response.body() != null) {
-                    ContentResponse contentResponse = response.body();
-                    
-                    if (contentResponse.isSuccess()) {
-                        announcementList.clear();
-                        
-                        // Convert highlights to announcements
-                        try {
-                            if (contentResponse.getData() instanceof java.util.List) {
-                                java.util.List<java.util.Map<String, Object>> highlights = (java.util.List<java.util.Map<String, Object>>) contentResponse.getData();
-                                
-                                for (java.util.Map<String, Object> highlight : highlights) {
-                                    Announcement announcement = new Announcement();
-                                    announcement.setId(String.valueOf(highlight.get("id")));
-                                    announcement.setTitle((String) highlight.get("title"));
-                                    announcement.setDescription((String) highlight.get("description"));
-                                    announcement.setImageUrl((String) highlight.get("image_url"));
-                                    announcement.setPriority("medium");
-                                    announcement.setTimestamp(System.currentTimeMillis());
-                                    
-                                    announcementList.add(announcement);
-                                }
-                                
-                                announcementAdapter.notifyDataSetChanged();
-                            }
-                        } catch (Exception e) {
-                            Log.e(TAG, "Error parsing highlights", e);
-                        }
-                        
-                        updateEmptyState();
-                    }
-                } else {
-                    ApiUtils.handleApiError(AnnouncementActivity.this, response);
-                }
+                showAnnouncements(announcements);
             }
 
             @Override
-            public void onFailure(Call<ContentResponse> call, Throwable t) {
+            public void onFeedError(Response<?> response, Throwable t) {
+                if (isFinishing() || isDestroyed()) return;
                 showLoading(false);
                 swipeRefreshLayout.setRefreshing(false);
-                ApiUtils.handleApiFailure(AnnouncementActivity.this, t);
+
+                if (t != null) {
+                    ApiUtils.handleApiFailure(AnnouncementActivity.this, t);
+                } else if (response != null && !response.isSuccessful()) {
+                    ApiUtils.handleApiError(AnnouncementActivity.this, response);
+                }
             }
         });
     }
 
+    private void showAnnouncements(List<Announcement> announcements) {
+        announcementList.clear();
+        announcementList.addAll(announcements);
+        announcementAdapter.notifyDataSetChanged();
+        updateEmptyState();
+    }
+
     private void showLoading(boolean show) {
         progressBar.setVisibility(show ? View.VISIBLE : View.GONE);
         announcementsRecyclerView.setVisibility(show ? View.GONE : View.VISIBLE);
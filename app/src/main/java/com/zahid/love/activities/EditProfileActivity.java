@@ -15,6 +15,8 @@ import androidx.appcompat.app.AppCompatActivity;
 
 import com.google.android.material.button.MaterialButton;
 import com.zahid.love.api.ApiClient;
+import com.zahid.love.api.LifecycleCalls;
+import com.zahid.love.api.SingleFlight;
 import com.zahid.love.models.api.UpdateProfileRequest;
 import com.zahid.love.models.api.UserResponse;
 import com.zahid.love.R;
@@ -71,7 +73,7 @@ public class EditProfileActivity extends AppCompatActivity {
     private void loadCurrentProfile() {
         showLoading(true);
 
-        ApiClient.getApiService().getProfile().enqueue(new Callback<UserResponse>() {
+        LifecycleCalls.enqueueShared(this, SingleFlight.PROFILE, ApiClient.getApiService().getProfile(), new Callback<UserResponse>() {
             @Override
             public void onResponse(Call<UserResponse> call, Response<UserResponse> response) {
                 showLoading(false);
@@ -141,7 +143,7 @@ public class EditProfileActivity extends AppCompatActivity {
 
         UpdateProfileRequest updateRequest = new UpdateProfileRequest(fullName, ign, avatarUrl);
         
-        ApiClient.getApiService().updateProfile(updateRequest).enqueue(new Callback<UserResponse>() {
+        LifecycleCalls.enqueueUncancellable(this, ApiClient.getApiService().updateProfile(updateRequest), new Callback<UserResponse>() {
             @Override
             public void onResponse(Call<UserResponse> call, Response<UserResponse> response) {
                 showLoading(false);
@@ -175,7 +177,7 @@ public class EditProfileActivity extends AppCompatActivity {
                 // Now update profile with new image URL
                 UpdateProfileRequest updateRequest = new UpdateProfileRequest(fullName, ign, imageUrl);
                 
-                ApiClient.getApiService().updateProfile(updateRequest).enqueue(new Callback<UserResponse>() {
+                LifecycleCalls.enqueueUncancellable(EditProfileActivity.this, ApiClient.getApiService().updateProfile(updateRequest), new Callback<UserResponse>() {
                     @Override
                     public void onResponse(Call<UserResponse> call, Response<UserResponse> response) {
                         showLoading(false);
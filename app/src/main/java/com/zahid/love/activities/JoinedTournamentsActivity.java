@@ -12,9 +12,12 @@ import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.swiperefreshlayout.widget.SwipeRefreshLayout;
 
+import com.google.gson.reflect.TypeToken;
 import com.zahid.love.R;
 import com.zahid.love.adapters.JoinedTournamentAdapter;
 import com.zahid.love.api.ApiClient;
+import com.zahid.love.api.SingleFlight;
+import com.zahid.love.data.LocalStore;
 import com.zahid.love.models.Tournament;
 import com.zahid.love.models.api.TournamentResponse;
 
@@ -37,6 +40,7 @@ public class JoinedTournamentsActivity extends AppCompatActivity {
 
     private JoinedTournamentAdapter adapter;
     private List<Tournament> tournamentList;
+    private boolean networkLoaded = false;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -48,6 +52,7 @@ public class JoinedTournamentsActivity extends AppCompatActivity {
             initializeViews();
             setupRecyclerView();
             setupClickListeners();
+            loadSavedTournaments();
             loadJoinedTournaments();
         } catch (Exception e) {
             Log.e(TAG, "Error in onCreate", e);
@@ -94,10 +99,25 @@ public class JoinedTournamentsActivity extends AppCompatActivity {
         }
     }
 
+    private void loadSavedTournaments() {
+        LocalStore.get(this).read(LocalStore.JOINED_TOURNAMENTS, new TypeToken<List<Tournament>>() {}.getType(),
+                (List<Tournament> saved) -> {
+                    if (networkLoaded || saved == null || saved.isEmpty() || isDestroyed()) return;
+
+                    tournamentList.clear();
+                    tournamentList.addAll(saved);
+                    if (adapter != null) {
+                        adapter.submitList(tournamentList);
+                    }
+                    showLoading(false);
+                    updateEmptyState();
+                });
+    }
+
     private void loadJoinedTournaments() {
         showLoading(true);
         
-        ApiClient.getApiService().getMyTournaments().enqueue(new Callback<TournamentResponse>() {
+        SingleFlight.enqueue(SingleFlight.MY_TOURNAMENTS, ApiClient.getApiService().getMyTournaments(), new Callback<TournamentResponse>() {
             @Override
             public void onResponse(Call<TournamentResponse> call, Response<TournamentResponse> response) {
                 showLoading(false);
@@ -109,14 +129,16 @@ public class JoinedTournamentsActivity extends AppCompatActivity {
                     TournamentResponse tournamentResponse = response.body();
                     
                     if (tournamentResponse.isSuccess()) {
+                        networkLoaded = true;
                         tournamentList.clear();
                         
                         if (tournamentResponse.getData() != null) {
                             tournamentList.addAll(tournamentResponse.getData());
                         }
+                        LocalStore.get(JoinedTournamentsActivity.this).write(LocalStore.JOINED_TOURNAMENTS, new ArrayList<>(tournamentList));
                         
                         if (adapter != null) {
-                            adapter.notifyDataSetChanged();
+                            adapter.submitList(tournamentList);
                         }
                         
                         Log.d(TAG, "Joined tournaments loaded: " + tournamentList.size());
@@ -3,7 +3,6 @@ package com.zahid.love.activities;
 import android.content.Intent;
 import android.net.Uri;
 import android.os.Bundle;
-import android.os.CountDownTimer;
 import android.view.View;
 import android.widget.ImageView;
 import android.widget.ProgressBar;
@@ -18,20 +17,24 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.bumptech.glide.Glide;
 import com.google.android.material.button.MaterialButton;
 import com.zahid.love.api.ApiClient;
+import com.zahid.love.api.LifecycleCalls;
 import com.zahid.love.models.api.ApiResponse;
 import com.zahid.love.models.api.JoinTournamentRequest;
 import com.zahid.love.R;
 import com.zahid.love.adapters.LudoParticipantAdapter;
+import com.zahid.love.data.DateStamps;
+import com.zahid.love.data.TournamentStore;
 import com.zahid.love.models.Tournament;
 import com.zahid.love.models.User;
+import com.zahid.love.repository.RealtimeClient;
+import com.zahid.love.repository.TournamentSync;
+import com.zahid.love.utils.CountdownTicker;
 
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.TimeUnit;
 
 import retrofit2.Call;
 import retrofit2.Callback;
@@ -53,7 +56,7 @@ public class LudoActivity extends AppCompatActivity {
     
     private String tournamentId;
     private Tournament tournament;
-    private CountDownTimer countDownTimer;
+    private final CountdownTicker countdownTicker = new CountdownTicker();
     private DecimalFormat decimalFormat;
     private SimpleDateFormat dateFormat;
     private Uri selectedImageUri;
@@ -63,9 +66,12 @@ public class LudoActivity extends AppCompatActivity {
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_ludo);
+        countdownTicker.bindTo(this);
 
         initializeViews();
         getTournamentData();
+        TournamentStore.addTournamentObserver(tournamentObserver);
+        RealtimeClient.bindTo(this);
         setupClickListeners();
         setupRecyclerView();
     }
@@ -136,46 +142,55 @@ public class LudoActivity extends AppCompatActivity {
         participantsRecyclerView.setAdapter(participantAdapter);
     }
 
+    // Room details, status and player counts pushed by the server land here while open
+    private final TournamentStore.TournamentObserver tournamentObserver = updated -> {
+        if (tournament == null || !tournamentId.equals(updated.getId()) || updated == tournament) return;
+        tournament = updated;
+        displayTournamentDetails();
+        startCountdown();
+    };
+
     private void loadTournamentDetails() {
-        showLoading(true);
+        // Render the cached entry immediately, then revalidate in the background
+        Tournament cached = TournamentStore.get(tournamentId);
+        if (cached != null) {
+            tournament = cached;
+            displayTournamentDetails();
+            startCountdown();
+        } else {
+            showLoading(true);
+        }
         
-        // Load specific tournament from Laravel API
-        ApiClient.getApiService().getTournaments(null, null).enqueue(new Callback<TournamentResponse>() {
+        LifecycleCalls.enqueue(this, ApiClient.getApiService().getTournament(tournamentId), new Callback<ApiResponse<Tournament>>() {
             @Override
-            public void onResponse(Call<TournamentResponse> call, Response<TournamentResponse> response) {
+            public void onResponse(Call<ApiResponse<Tournament>> call, Response<ApiResponse<Tournament>> response) {
                 showLoading(false);
                 
                 if (response.isSuccessful() && response.body() != null) {
-                    TournamentResponse tournamentResponse = response.body();
+                    ApiResponse<Tournament> tournamentResponse = response.body();
                     
                     if (tournamentResponse.isSuccess() && tournamentResponse.getData() != null) {
-                        // Find the tournament by ID
-                        for (Tournament t : tournamentResponse.getData()) {
-                            if (tournamentId.equals(t.getId())) {
-                                tournament = t;
-                                break;
-                            }
-                        }
-                        
-                        if (tournament != null) {
-                            displayTournamentDetails();
-                            startCountdown();
-                        } else {
-                            Toast.makeText(LudoActivity.this, "Tournament not found", Toast.LENGTH_SHORT).show();
-                            finish();
-                        }
+                        tournament = tournamentResponse.getData();
+                        TournamentSync.put(tournament);
+                        displayTournamentDetails();
+                        startCountdown();
+                    } else if (tournament == null) {
+                        Toast.makeText(LudoActivity.this, "Tournament not found", Toast.LENGTH_SHORT).show();
+                        finish();
                     }
-                } else {
+                } else if (tournament == null) {
                     Toast.makeText(LudoActivity.this, "Failed to load tournament", Toast.LENGTH_SHORT).show();
                     finish();
                 }
             }
 
             @Override
-            public void onFailure(Call<TournamentResponse> call, Throwable t) {
+            public void onFailure(Call<ApiResponse<Tournament>> call, Throwable t) {
                 showLoading(false);
-                Toast.makeText(LudoActivity.this, "Network error: " + t.getMessage(), Toast.LENGTH_SHORT).show();
-                finish();
+                if (tournament == null) {
+                    Toast.makeText(LudoActivity.this, "Network error: " + t.getMessage(), Toast.LENGTH_SHORT).show();
+                    finish();
+                }
             }
         });
     }
@@ -230,7 +245,7 @@ public class LudoActivity extends AppCompatActivity {
         
         JoinTournamentRequest joinRequest = new JoinTournamentRequest("Player" + System.currentTimeMillis());
         
-        ApiClient.getApiService().joinTournament(Integer.parseInt(tournamentId), joinRequest).enqueue(new Callback<ApiResponse<Object>>() {
+        LifecycleCalls.enqueueUncancellable(this, ApiClient.getApiService().joinTournament(Integer.parseInt(tournamentId), joinRequest), new Callback<ApiResponse<Object>>() {
             @Override
             public void onResponse(Call<ApiResponse<Object>> call, Response<ApiResponse<Object>> response) {
                 showLoading(false);
@@ -273,8 +288,14 @@ public class LudoActivity extends AppCompatActivity {
     }
 
     private void startCountdown() {
-        // Use the time_until_start from API response
-        countdownTextView.setText(tournament.getTimeUntilStart());
+        long startEpochMs = DateStamps.of(tournament, tournament.getStartsAt()).getEpochMs();
+        if (startEpochMs >= 0) {
+            countdownTicker.attach(countdownTextView, startEpochMs);
+        } else {
+            // Fall back to the time_until_start from API response
+            countdownTicker.detach(countdownTextView);
+            countdownTextView.setText(tournament.getTimeUntilStart());
+        }
     }
 
     private void selectImage() {
@@ -325,9 +346,7 @@ public class LudoActivity extends AppCompatActivity {
 
     @Override
     protected void onDestroy() {
+        TournamentStore.removeTournamentObserver(tournamentObserver);
         super.onDestroy();
-        if (countDownTimer != null) {
-            countDownTimer.cancel();
-        }
     }
-}
\ No newline at end of file
+}
@@ -7,23 +7,32 @@ import androidx.appcompat.app.AppCompatActivity;
 import androidx.fragment.app.Fragment;
 import androidx.fragment.app.FragmentManager;
 import androidx.fragment.app.FragmentTransaction;
+import androidx.lifecycle.Lifecycle;
 
+import com.google.android.material.badge.BadgeDrawable;
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 import com.zahid.love.api.ApiClient;
+import com.zahid.love.api.SingleFlight;
 import com.zahid.love.R;
 import com.zahid.love.fragments.HomeDashboardFragment;
 import com.zahid.love.fragments.DashboardFragment;
 import com.zahid.love.fragments.NotificationFragment;
 import com.zahid.love.fragments.ProfileFragment;
 import com.zahid.love.fragments.WalletFragment;
+import com.zahid.love.repository.NotificationAckQueue;
+import com.zahid.love.repository.RealtimeClient;
+import com.zahid.love.repository.UnreadCountService;
 import com.zahid.love.utils.DebugUtils;
 import com.zahid.love.utils.NetworkUtils;
 
 public class MainActivity extends AppCompatActivity {
 
     private static final String TAG = "MainActivity";
+    private static final String STATE_CURRENT_TAB = "current_tab";
     private BottomNavigationView bottomNavigationView;
     private FragmentManager fragmentManager;
+    private String currentTag;
+    private final ApiClient.SessionExpiredListener sessionExpiredListener = this::redirectToLogin;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -40,9 +49,11 @@ public class MainActivity extends AppCompatActivity {
             initializeViews();
             setupBottomNavigation();
 
-            // Load default fragment
+            // Load default fragment; after recreation the FragmentManager restores every tab itself
             if (savedInstanceState == null) {
-                loadFragment(new HomeDashboardFragment());
+                selectTab(R.id.nav_dashboard);
+            } else {
+                currentTag = savedInstanceState.getString(STATE_CURRENT_TAB, tagFor(R.id.nav_dashboard));
             }
 
         } catch (Exception e) {
@@ -59,13 +70,18 @@ public class MainActivity extends AppCompatActivity {
             // Verify user is logged in
             if (!ApiClient.isLoggedIn()) {
                 Log.w(TAG, "User not logged in, redirecting to login");
-                android.content.Intent intent = new android.content.Intent(this, LoginActivity.class);
-                intent.setFlags(android.content.Intent.FLAG_ACTIVITY_NEW_TASK | android.content.Intent.FLAG_ACTIVITY_CLEAR_TASK);
-                startActivity(intent);
-                finish();
+                redirectToLogin();
                 return;
             }
             
+            // Any 401 from a parallel call ends the session once, in one place
+            ApiClient.setSessionExpiredListener(sessionExpiredListener);
+
+            // Send read acknowledgements an earlier run did not get to deliver
+            NotificationAckQueue.resume(this);
+            RealtimeClient.bindTo(this);
+            UnreadCountService.bindTo(this);
+            
             // Load user profile to verify token is still valid
             verifyUserSession();
         } catch (Exception e) {
@@ -74,16 +90,14 @@ public class MainActivity extends AppCompatActivity {
     }
     
     private void verifyUserSession() {
-        ApiClient.getApiService().getProfile().enqueue(new retrofit2.Callback<com.zahid.love.models.api.UserResponse>() {
+        SingleFlight.enqueue(SingleFlight.PROFILE, ApiClient.getApiService().getProfile(), new retrofit2.Callback<com.zahid.love.models.api.UserResponse>() {
             @Override
             public void onResponse(retrofit2.Call<com.zahid.love.models.api.UserResponse> call, retrofit2.Response<com.zahid.love.models.api.UserResponse> response) {
-                if (!response.isSuccessful() || response.code() == 401) {
+                // 401 is handled by the ApiClient authenticator and the session expired listener
+                if (!response.isSuccessful() && response.code() != 401) {
                     // Token expired or invalid, redirect to login
                     ApiClient.clearAuthToken();
-                    android.content.Intent intent = new android.content.Intent(MainActivity.this, LoginActivity.class);
-                    intent.setFlags(android.content.Intent.FLAG_ACTIVITY_NEW_TASK | android.content.Intent.FLAG_ACTIVITY_CLEAR_TASK);
-                    startActivity(intent);
-                    finish();
+                    redirectToLogin();
                 }
             }
             
@@ -95,54 +109,115 @@ public class MainActivity extends AppCompatActivity {
         });
     }
 
+    private void redirectToLogin() {
+        if (isFinishing()) return;
+        android.content.Intent intent = new android.content.Intent(this, LoginActivity.class);
+        intent.setFlags(android.content.Intent.FLAG_ACTIVITY_NEW_TASK | android.content.Intent.FLAG_ACTIVITY_CLEAR_TASK);
+        startActivity(intent);
+        finish();
+    }
+
+    @Override
+    protected void onSaveInstanceState(Bundle outState) {
+        super.onSaveInstanceState(outState);
+        outState.putString(STATE_CURRENT_TAB, currentTag);
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        ApiClient.removeSessionExpiredListener(sessionExpiredListener);
+    }
+
     private void setupBottomNavigation() {
         try {
-            bottomNavigationView.setOnItemSelectedListener(item -> {
-                Fragment selectedFragment = null;
-
-                int itemId = item.getItemId();
-                if (itemId == R.id.nav_dashboard) {
-                    selectedFragment = new HomeDashboardFragment();
-                } else if (itemId == R.id.nav_tournaments) {
-                    selectedFragment = new DashboardFragment();
-                } else if (itemId == R.id.nav_wallet) {
-                    selectedFragment = new WalletFragment();
-                } else if (itemId == R.id.nav_notifications) {
-                    selectedFragment = new NotificationFragment();
-                } else if (itemId == R.id.nav_profile) {
-                    selectedFragment = new ProfileFragment();
-                }
-
-                if (selectedFragment != null) {
-                    loadFragment(selectedFragment);
-                    return true;
-                }
-                return false;
+            UnreadCountService.getUnreadCount().observe(this, count -> {
+                BadgeDrawable badge = bottomNavigationView.getOrCreateBadge(R.id.nav_notifications);
+                badge.setNumber(count != null ? count : 0);
+                badge.setVisible(count != null && count > 0);
             });
+
+            bottomNavigationView.setOnItemSelectedListener(item -> selectTab(item.getItemId()));
+            // Tapping the open tab again must not rebuild it
+            bottomNavigationView.setOnItemReselectedListener(item -> { });
         } catch (Exception e) {
             Log.e(TAG, "Error setting up bottom navigation", e);
         }
     }
 
-    private void loadFragment(Fragment fragment) {
+    private static String tagFor(int itemId) {
+        if (itemId == R.id.nav_dashboard) return "tab_home";
+        if (itemId == R.id.nav_tournaments) return "tab_tournaments";
+        if (itemId == R.id.nav_wallet) return "tab_wallet";
+        if (itemId == R.id.nav_notifications) return "tab_notifications";
+        if (itemId == R.id.nav_profile) return "tab_profile";
+        return null;
+    }
+
+    private static Fragment createTab(int itemId) {
+        if (itemId == R.id.nav_dashboard) return new HomeDashboardFragment();
+        if (itemId == R.id.nav_tournaments) return new DashboardFragment();
+        if (itemId == R.id.nav_wallet) return new WalletFragment();
+        if (itemId == R.id.nav_notifications) return new NotificationFragment();
+        if (itemId == R.id.nav_profile) return new ProfileFragment();
+        return null;
+    }
+
+    private boolean selectTab(int itemId) {
+        String tag = tagFor(itemId);
+        if (tag == null) return false;
+
+        Fragment fragment = fragmentManager.findFragmentByTag(tag);
+        if (fragment == null) {
+            fragment = createTab(itemId);
+        }
+        showTab(fragment, tag);
+        return true;
+    }
+
+    // Each tab is created once and then only shown or hidden, so its views, scroll position and
+    // ViewModel survive tab switches. Hidden tabs are held at STARTED so onResume marks "visible".
+    private void showTab(Fragment fragment, String tag) {
         try {
             FragmentTransaction transaction = fragmentManager.beginTransaction();
-            transaction.replace(R.id.frameLayout, fragment);
+            transaction.setReorderingAllowed(true);
+
+            Fragment current = currentTag != null ? fragmentManager.findFragmentByTag(currentTag) : null;
+            if (current != null && current != fragment) {
+                transaction.hide(current);
+                transaction.setMaxLifecycle(current, Lifecycle.State.STARTED);
+            }
+
+            if (fragment.isAdded()) {
+                transaction.show(fragment);
+            } else {
+                transaction.add(R.id.frameLayout, fragment, tag);
+            }
+            transaction.setMaxLifecycle(fragment, Lifecycle.State.RESUMED);
             transaction.commit();
+            currentTag = tag;
         } catch (Exception e) {
-            Log.e(TAG, "Error loading fragment", e);
+            Log.e(TAG, "Error showing fragment", e);
         }
     }
 
     public void switchToTournamentsWithFilter(String gameFilter) {
         try {
+            String tag = tagFor(R.id.nav_tournaments);
             DashboardFragment dashboardFragment = new DashboardFragment();
             Bundle args = new Bundle();
             args.putString("game_filter", gameFilter);
             dashboardFragment.setArguments(args);
 
-            loadFragment(dashboardFragment);
-            bottomNavigationView.setSelectedItemId(R.id.nav_tournaments);
+            // The filter is read from the arguments, so an existing tab is replaced by a filtered one
+            Fragment existing = fragmentManager.findFragmentByTag(tag);
+            if (existing != null) {
+                fragmentManager.beginTransaction().remove(existing).commit();
+                if (tag.equals(currentTag)) currentTag = null;
+            }
+
+            showTab(dashboardFragment, tag);
+            bottomNavigationView.getMenu().findItem(R.id.nav_tournaments).setChecked(true);
         } catch (Exception e) {
             Log.e(TAG, "Error switching to tournaments with filter", e);
         }
@@ -13,13 +13,20 @@ import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.swiperefreshlayout.widget.SwipeRefreshLayout;
 
+import com.google.gson.reflect.TypeToken;
 import com.zahid.love.api.ApiClient;
+import com.zahid.love.api.LifecycleCalls;
+import com.zahid.love.data.LocalStore;
 import com.zahid.love.models.api.ApiResponse;
-import com.zahid.love.models.api.NotificationResponse;
 import com.zahid.love.R;
 import com.zahid.love.adapters.NotificationAdapter;
 import com.zahid.love.models.Notification;
+import com.zahid.love.repository.KeysetPagingSource;
+import com.zahid.love.repository.NotificationPagingSource;
+import com.zahid.love.repository.RealtimeClient;
+import com.zahid.love.repository.UnreadCountService;
 import com.zahid.love.utils.ApiUtils;
+import com.zahid.love.utils.PagingScrollListener;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -35,6 +42,7 @@ public class NotificationActivity extends AppCompatActivity {
     private RecyclerView notificationsRecyclerView;
     private NotificationAdapter notificationAdapter;
     private List<Notification> notificationList;
+    private NotificationPagingSource pagingSource;
     private SwipeRefreshLayout swipeRefreshLayout;
     private ProgressBar progressBar;
     private TextView emptyStateText;
@@ -48,9 +56,31 @@ public class NotificationActivity extends AppCompatActivity {
         initializeViews();
         setupRecyclerView();
         setupClickListeners();
+        loadSavedNotifications();
         loadNotifications();
+
+        RealtimeClient.addNotificationListener(notificationListener);
+        RealtimeClient.bindTo(this);
+
+        // Nothing to mark when the shared count says everything is read
+        View markAllReadButton = findViewById(R.id.markAllReadButton);
+        UnreadCountService.bindTo(this);
+        UnreadCountService.getUnreadCount().observe(this, count -> markAllReadButton.setEnabled(count == null || count > 0));
+    }
+
+    @Override
+    protected void onDestroy() {
+        RealtimeClient.removeNotificationListener(notificationListener);
+        super.onDestroy();
     }
 
+    // New notifications pushed by the server go straight to the top of the list
+    private final RealtimeClient.NotificationListener notificationListener = notification -> {
+        if (pagingSource.insertNewest(notification)) {
+            updateEmptyState();
+        }
+    };
+
     private void initializeViews() {
         notificationsRecyclerView = findViewById(R.id.notificationsRecyclerView);
         swipeRefreshLayout = findViewById(R.id.swipeRefreshLayout);
@@ -58,7 +88,10 @@ public class NotificationActivity extends AppCompatActivity {
         emptyStateText = findViewById(R.id.emptyStateText);
         emptyStateImage = findViewById(R.id.emptyStateImage);
         
-        notificationList = new ArrayList<>();
+        pagingSource = new NotificationPagingSource(null);
+        pagingSource.setListener(pagingListener);
+        pagingSource.bindTo(this);
+        notificationList = pagingSource.getItems();
         
         swipeRefreshLayout.setOnRefreshListener(this::loadNotifications);
         swipeRefreshLayout.setColorSchemeColors(getResources().getColor(R.color.neon_blue));
@@ -68,6 +101,7 @@ public class NotificationActivity extends AppCompatActivity {
         notificationAdapter = new NotificationAdapter(notificationList);
         notificationsRecyclerView.setLayoutManager(new LinearLayoutManager(this));
         notificationsRecyclerView.setAdapter(notificationAdapter);
+        notificationsRecyclerView.addOnScrollListener(new PagingScrollListener(pagingSource));
     }
 
     private void setupClickListeners() {
@@ -76,7 +110,7 @@ public class NotificationActivity extends AppCompatActivity {
     }
     
     private void markAllNotificationsAsRead() {
-        ApiClient.getApiService().markAllNotificationsAsRead().enqueue(new Callback<ApiResponse<Object>>() {
+        LifecycleCalls.enqueueUncancellable(this, ApiClient.getApiService().markAllNotificationsAsRead(), new Callback<ApiResponse<Object>>() {
             @Override
             public void onResponse(Call<ApiResponse<Object>> call, Response<ApiResponse<Object>> response) {
                 if (response.isSuccessful() && response.body() != null) {
@@ -84,6 +118,7 @@ public class NotificationActivity extends AppCompatActivity {
                     
                     if (apiResponse.isSuccess()) {
                         Toast.makeText(NotificationActivity.this, "All notifications marked as read", Toast.LENGTH_SHORT).show();
+                        UnreadCountService.setUnreadCount(0);
                         
                         // Update local list
                         for (Notification notification : notificationList) {
@@ -103,47 +138,64 @@ public class NotificationActivity extends AppCompatActivity {
         });
     }
 
+    private void loadSavedNotifications() {
+        LocalStore.get(this).read(LocalStore.NOTIFICATIONS, new TypeToken<List<Notification>>() {}.getType(),
+                (List<Notification> saved) -> {
+                    if (isDestroyed() || !pagingSource.seed(saved)) return;
+
+                    showLoading(false);
+                    notificationAdapter.submitList(notificationList);
+                    updateEmptyState();
+                });
+    }
+
     private void loadNotifications() {
         showLoading(true);
-        
-        ApiClient.getApiService().getNotifications(20, null).enqueue(new Callback<NotificationResponse>() {
-            @Override
-            public void onResponse(Call<NotificationResponse> call, Response<NotificationResponse> response) {
-                showLoading(false);
-                swipeRefreshLayout.setRefreshing(false);
-                
-                if (response.isSuccessful() && response.body() != null) {
-                    NotificationResponse notificationResponse = response.body();
-                    
-                    if (notificationResponse.isSuccess()) {
-                        notificationList.clear();
-                        
-                        if (notificationResponse.getData() != null && 
-                            notificationResponse.getData().getNotifications() != null) {
-                            notificationList.addAll(notificationResponse.getData().getNotifications());
-                        }
-                        
-                        notificationAdapter.notifyDataSetChanged();
-                        updateEmptyState();
-                        
-                        Log.d(TAG, "Notifications loaded: " + notificationList.size());
-                    } else {
-                        Log.e(TAG, "Failed to load notifications: " + notificationResponse.getMessage());
-                    }
-                } else {
-                    ApiUtils.handleApiError(NotificationActivity.this, response);
-                }
-            }
+        pagingSource.refresh();
+    }
 
-            @Override
-            public void onFailure(Call<NotificationResponse> call, Throwable t) {
-                showLoading(false);
-                swipeRefreshLayout.setRefreshing(false);
+    private final KeysetPagingSource.Listener pagingListener = new KeysetPagingSource.Listener() {
+        @Override
+        public void onRefreshed() {
+            showLoading(false);
+            swipeRefreshLayout.setRefreshing(false);
+            notificationAdapter.submitList(notificationList);
+            updateEmptyState();
+            LocalStore.get(NotificationActivity.this).write(LocalStore.NOTIFICATIONS, new ArrayList<>(notificationList));
+            
+            Log.d(TAG, "Notifications loaded: " + notificationList.size());
+        }
+
+        @Override
+        public void onItemsInserted(int positionStart, int itemCount) {
+            notificationAdapter.submitList(notificationList);
+        }
+
+        @Override
+        public void onItemsRemoved(int positionStart, int itemCount) {
+            notificationAdapter.submitList(notificationList);
+        }
+
+        @Override
+        public void onLoadError(boolean refresh, Response<?> response, Throwable t) {
+            if (!refresh) {
+                // The source waits before trying again; scrolling after that retries
+                Toast.makeText(NotificationActivity.this, "Couldn't load more notifications", Toast.LENGTH_SHORT).show();
+                return;
+            }
+            
+            showLoading(false);
+            swipeRefreshLayout.setRefreshing(false);
+            if (response != null && !response.isSuccessful()) {
+                ApiUtils.handleApiError(NotificationActivity.this, response);
+            } else if (t != null) {
                 Log.e(TAG, "Notifications API call failed", t);
                 ApiUtils.handleApiFailure(NotificationActivity.this, t);
+            } else {
+                Log.e(TAG, "Failed to load notifications");
             }
-        });
-    }
+        }
+    };
 
     private void showLoading(boolean show) {
         progressBar.setVisibility(show ? View.VISIBLE : View.GONE);
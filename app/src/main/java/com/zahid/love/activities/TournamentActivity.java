@@ -3,6 +3,7 @@ package com.zahid.love.activities;
 import android.content.Intent;
 import android.os.Bundle;
 import android.text.TextUtils;
+import android.util.Log;
 import android.view.View;
 import android.widget.EditText;
 import android.widget.ImageView;
@@ -12,25 +13,32 @@ import android.widget.Toast;
 
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.lifecycle.Lifecycle;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.google.android.material.button.MaterialButton;
 import com.zahid.love.api.ApiClient;
+import com.zahid.love.api.LifecycleCalls;
+import com.zahid.love.api.SingleFlight;
 import com.zahid.love.models.api.ApiResponse;
 import com.zahid.love.models.api.JoinTournamentRequest;
 import com.zahid.love.models.api.JoinTournamentRequest;
 import com.zahid.love.models.api.TournamentResponse;
 import com.zahid.love.R;
 import com.zahid.love.adapters.ParticipantAdapter;
+import com.zahid.love.data.TournamentStore;
 import com.zahid.love.models.Tournament;
 import com.zahid.love.models.User;
+import com.zahid.love.repository.RealtimeClient;
+import com.zahid.love.repository.TournamentSync;
 import com.zahid.love.utils.ApiUtils;
 import com.zahid.love.utils.ClipboardUtils;
 
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import retrofit2.Call;
 import retrofit2.Callback;
@@ -51,6 +59,10 @@ public class TournamentActivity extends AppCompatActivity {
     private String tournamentId;
     private Tournament tournament;
     private DecimalFormat decimalFormat;
+    private boolean actionsShown = false;
+    private AlertDialog roomDialog;
+    // A room pushed while the screen was in the background, shown once it is visible again
+    private boolean roomPending = false;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -59,6 +71,8 @@ public class TournamentActivity extends AppCompatActivity {
 
         initializeViews();
         getTournamentData();
+        TournamentStore.addTournamentObserver(tournamentObserver);
+        RealtimeClient.bindTo(this);
         setupClickListeners();
         setupRecyclerView();
     }
@@ -114,36 +128,52 @@ public class TournamentActivity extends AppCompatActivity {
         participantsRecyclerView.setAdapter(participantAdapter);
     }
 
+    // Room details, status and player counts pushed by the server land here while open
+    private final TournamentStore.TournamentObserver tournamentObserver = updated -> {
+        if (tournament == null || !tournamentId.equals(updated.getId()) || updated == tournament) return;
+        boolean roomChanged = !TextUtils.isEmpty(updated.getRoomId())
+                && (!Objects.equals(updated.getRoomId(), tournament.getRoomId())
+                || !Objects.equals(updated.getRoomPassword(), tournament.getRoomPassword()));
+        tournament = updated;
+        displayTournamentDetails();
+        // Actions are only built once, so a room pushed later has to be shown here
+        if (roomChanged) {
+            showRoomDetails();
+        }
+    };
+
     private void loadTournamentDetails() {
-        showLoading(true);
+        // Render the cached entry immediately, then revalidate in the background
+        Tournament cached = TournamentStore.get(tournamentId);
+        if (cached != null) {
+            tournament = cached;
+            displayTournamentDetails();
+        } else {
+            showLoading(true);
+        }
         
-        ApiClient.getApiService().getTournaments(null, null).enqueue(new Callback<TournamentResponse>() {
+        LifecycleCalls.enqueue(this, ApiClient.getApiService().getTournament(tournamentId), new Callback<ApiResponse<Tournament>>() {
             @Override
-            public void onResponse(Call<TournamentResponse> call, Response<TournamentResponse> response) {
+            public void onResponse(Call<ApiResponse<Tournament>> call, Response<ApiResponse<Tournament>> response) {
                 showLoading(false);
                 
                 if (response.isSuccessful() && response.body() != null) {
-                    TournamentResponse tournamentResponse = response.body();
+                    ApiResponse<Tournament> tournamentResponse = response.body();
                     
                     if (tournamentResponse.isSuccess() && tournamentResponse.getData() != null) {
-                        // Find the tournament by ID
-                        for (Tournament t : tournamentResponse.getData()) {
-                            if (tournamentId.equals(t.getId())) {
-                                tournament = t;
-                                break;
-                            }
-                        }
-                        
-                        if (tournament != null) {
-                            displayTournamentDetails();
-                        } else {
-                            Toast.makeText(TournamentActivity.this, "Tournament not found", Toast.LENGTH_SHORT).show();
-                            finish();
-                        }
+                        tournament = tournamentResponse.getData();
+                        TournamentSync.put(tournament);
+                        displayTournamentDetails();
+                        showTournamentActions();
+                    } else if (tournament != null) {
+                        showTournamentActions();
                     } else {
                         Toast.makeText(TournamentActivity.this, "Failed to load tournament", Toast.LENGTH_SHORT).show();
                         finish();
                     }
+                } else if (tournament != null) {
+                    Log.w("TournamentActivity", "Failed to revalidate tournament: " + response.code());
+                    showTournamentActions();
                 } else {
                     ApiUtils.handleApiError(TournamentActivity.this, response);
                     finish();
@@ -151,8 +181,13 @@ public class TournamentActivity extends AppCompatActivity {
             }
 
             @Override
-            public void onFailure(Call<TournamentResponse> call, Throwable t) {
+            public void onFailure(Call<ApiResponse<Tournament>> call, Throwable t) {
                 showLoading(false);
+                if (tournament != null) {
+                    Log.w("TournamentActivity", "Failed to revalidate tournament", t);
+                    showTournamentActions();
+                    return;
+                }
                 ApiUtils.handleApiFailure(TournamentActivity.this, t);
                 finish();
             }
@@ -196,7 +231,12 @@ public class TournamentActivity extends AppCompatActivity {
                 break;
         }
         statusTextView.setTextColor(statusColor);
-
+    }
+    
+    private void showTournamentActions() {
+        if (actionsShown) return;
+        actionsShown = true;
+        
         // Show room details if available
         if (tournament.getRoomId() != null && !tournament.getRoomId().isEmpty()) {
             showRoomDetails();
@@ -208,7 +248,7 @@ public class TournamentActivity extends AppCompatActivity {
     
     private void checkUserJoinedStatus() {
         // Check if current user has joined this tournament
-        ApiClient.getApiService().getMyTournaments().enqueue(new Callback<TournamentResponse>() {
+        LifecycleCalls.enqueueShared(this, SingleFlight.MY_TOURNAMENTS, ApiClient.getApiService().getMyTournaments(), new Callback<TournamentResponse>() {
             @Override
             public void onResponse(Call<TournamentResponse> call, Response<TournamentResponse> response) {
                 if (response.isSuccessful() && response.body() != null) {
@@ -282,7 +322,7 @@ public class TournamentActivity extends AppCompatActivity {
         
         JoinTournamentRequest joinRequest = new JoinTournamentRequest(ign);
         
-        ApiClient.getApiService().joinTournament(Integer.parseInt(tournamentId), joinRequest).enqueue(new Callback<ApiResponse<Object>>() {
+        LifecycleCalls.enqueueUncancellable(this, ApiClient.getApiService().joinTournament(Integer.parseInt(tournamentId), joinRequest), new Callback<ApiResponse<Object>>() {
             @Override
             public void onResponse(Call<ApiResponse<Object>> call, Response<ApiResponse<Object>> response) {
                 showLoading(false);
@@ -310,10 +350,24 @@ public class TournamentActivity extends AppCompatActivity {
     }
 
     private void showRoomDetails() {
+        // Pushes and late responses can arrive while stopped; the dialog waits for onStart
+        if (!getLifecycle().getCurrentState().isAtLeast(Lifecycle.State.STARTED)) {
+            roomPending = !isFinishing();
+            return;
+        }
+        roomPending = false;
+        String message = "Room ID: " + tournament.getRoomId() +
+                "\nPassword: " + (tournament.getRoomPassword() != null ? tournament.getRoomPassword() : "No password");
+
+        // A room pushed while the dialog is open updates it instead of stacking a second one
+        if (roomDialog != null && roomDialog.isShowing()) {
+            roomDialog.setMessage(message);
+            return;
+        }
+
         AlertDialog.Builder builder = new AlertDialog.Builder(this);
-        builder.setTitle("Room Details")
-                .setMessage("Room ID: " + tournament.getRoomId() + 
-                           "\nPassword: " + (tournament.getRoomPassword() != null ? tournament.getRoomPassword() : "No password"))
+        roomDialog = builder.setTitle("Room Details")
+                .setMessage(message)
                 .setPositiveButton("COPY ROOM ID", (dialog, which) -> {
                     ClipboardUtils.copyRoomId(this, tournament.getRoomId());
                 })
@@ -326,7 +380,24 @@ public class TournamentActivity extends AppCompatActivity {
                 .show();
     }
 
+    @Override
+    protected void onStart() {
+        super.onStart();
+        if (roomPending && tournament != null) {
+            showRoomDetails();
+        }
+    }
+
     private void showLoading(boolean show) {
         progressBar.setVisibility(show ? View.VISIBLE : View.GONE);
     }
-}
\ No newline at end of file
+
+    @Override
+    protected void onDestroy() {
+        TournamentStore.removeTournamentObserver(tournamentObserver);
+        if (roomDialog != null) {
+            roomDialog.dismiss();
+        }
+        super.onDestroy();
+    }
+}
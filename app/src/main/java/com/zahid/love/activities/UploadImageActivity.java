@@ -138,7 +138,7 @@ public class UploadImageActivity extends AppCompatActivity {
                 
                 @Override
                 public void onUploadProgress(int progress) {
-                    // Update progress if needed
+                    showProgress(progress);
                 }
                 
                 @Override
@@ -164,7 +164,7 @@ public class UploadImageActivity extends AppCompatActivity {
                 
                 @Override
                 public void onUploadProgress(int progress) {
-                    // Update progress if needed
+                    showProgress(progress);
                 }
                 
                 @Override
@@ -177,8 +177,17 @@ public class UploadImageActivity extends AppCompatActivity {
     }
 
     private void showLoading(boolean show) {
+        // Indeterminate while the image is compressed, until the first bytes reach the network
+        progressBar.setIndeterminate(true);
         progressBar.setVisibility(show ? View.VISIBLE : View.GONE);
         selectImageButton.setEnabled(!show);
         uploadButton.setEnabled(!show && selectedImageUri != null);
     }
+
+    private void showProgress(int progress) {
+        if (isFinishing() || isDestroyed()) return;
+        progressBar.setIndeterminate(false);
+        progressBar.setMax(100);
+        progressBar.setProgress(progress);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.zahid.love.adapters;
 
+import android.content.Context;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -15,25 +16,30 @@ import com.zahid.love.models.Tournament;
 
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
-import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 
 public class JoinedTournamentAdapter extends RecyclerView.Adapter<JoinedTournamentAdapter.JoinedTournamentViewHolder> {
 
-    private List<Tournament> tournamentList;
-    private DecimalFormat decimalFormat;
-    private SimpleDateFormat dateFormat;
+    // Only used by the row mapper, which runs on the single background executor
+    private final DecimalFormat decimalFormat = new DecimalFormat("#,##0.00");
+    private final SimpleDateFormat dateFormat = new SimpleDateFormat("MMM dd, yyyy", Locale.getDefault());
+    private final RowDiffer<Tournament, JoinedTournamentRow> rows = new RowDiffer<>(this, JoinedTournamentRow.DIFF_CALLBACK,
+            tournament -> JoinedTournamentRow.from(tournament, decimalFormat, dateFormat));
+    private Palette palette;
 
     public JoinedTournamentAdapter(List<Tournament> tournamentList) {
-        this.tournamentList = tournamentList;
-        this.decimalFormat = new DecimalFormat("#,##0.00");
-        this.dateFormat = new SimpleDateFormat("MMM dd, yyyy", Locale.getDefault());
+        setHasStableIds(true);
+        submitList(tournamentList);
     }
 
     @NonNull
     @Override
     public JoinedTournamentViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        if (palette == null) {
+            palette = new Palette(parent.getContext());
+        }
+
         View view = LayoutInflater.from(parent.getContext())
                 .inflate(R.layout.item_joined_tournament, parent, false);
         return new JoinedTournamentViewHolder(view);
@@ -41,61 +47,47 @@ public class JoinedTournamentAdapter extends RecyclerView.Adapter<JoinedTourname
 
     @Override
     public void onBindViewHolder(@NonNull JoinedTournamentViewHolder holder, int position) {
-        Tournament tournament = tournamentList.get(position);
-        
-        holder.titleTextView.setText(tournament.getTitle());
-        holder.gameTextView.setText(tournament.getGame());
-        holder.statusTextView.setText(tournament.getStatus());
-        holder.entryFeeTextView.setText("৳" + decimalFormat.format(tournament.getEntryFee()));
-        
-        // Parse date from Laravel API response
-        try {
-            if (tournament.getStartsAt() != null) {
-                java.text.SimpleDateFormat isoFormat = new java.text.SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSSSS'Z'", java.util.Locale.getDefault());
-                Date date = isoFormat.parse(tournament.getStartsAt());
-                holder.dateTextView.setText(dateFormat.format(date));
-            } else {
-                holder.dateTextView.setText(dateFormat.format(new Date()));
-            }
-        } catch (Exception e) {
-            holder.dateTextView.setText(tournament.getTimeUntilStart());
-        }
-        
-        // Load game icon
-        if (tournament.getGame().equals("Free Fire")) {
-            holder.gameIconImageView.setImageResource(R.drawable.free_fire_logo);
-        } else if (tournament.getGame().equals("PUBG Mobile")) {
-            holder.gameIconImageView.setImageResource(R.drawable.app_logo);
-        } else if (tournament.getGame().equals("Call of Duty Mobile")) {
-            holder.gameIconImageView.setImageResource(R.drawable.app_logo);
-        } else if (tournament.getGame().toLowerCase().contains("ludo")) {
-            holder.gameIconImageView.setImageResource(R.drawable.ludo_logo);
-        } else {
-            holder.gameIconImageView.setImageResource(R.drawable.app_logo);
-        }
-        
-        // Set status color
-        int statusColor;
-        switch (tournament.getStatus()) {
-            case "Open":
-                statusColor = holder.itemView.getContext().getResources().getColor(R.color.neon_blue);
-                break;
-            case "Closed":
-                statusColor = holder.itemView.getContext().getResources().getColor(R.color.neon_green);
-                break;
-            case "Completed":
-                statusColor = holder.itemView.getContext().getResources().getColor(R.color.text_secondary);
-                break;
-            default:
-                statusColor = holder.itemView.getContext().getResources().getColor(R.color.text_primary);
-                break;
-        }
-        holder.statusTextView.setTextColor(statusColor);
+        JoinedTournamentRow row = rows.getCurrentList().get(position);
+
+        holder.titleTextView.setText(row.title);
+        holder.gameTextView.setText(row.game);
+        holder.statusTextView.setText(row.statusText);
+        holder.statusTextView.setTextColor(palette.statusColors[row.status.ordinal()]);
+        holder.entryFeeTextView.setText(row.entryFeeText);
+        holder.dateTextView.setText(row.dateText);
+        holder.gameIconImageView.setImageResource(row.gameIconRes);
+    }
+
+    public void submitList(List<Tournament> items) {
+        rows.submit(items);
+    }
+
+    public Tournament getItem(int position) {
+        return rows.getCurrentList().get(position).tournament;
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return rows.getCurrentList().get(position).stableId;
     }
 
     @Override
     public int getItemCount() {
-        return tournamentList.size();
+        return rows.getCurrentList().size();
+    }
+
+    // Colors resolved once per adapter instead of on every bind
+    private static class Palette {
+        // Indexed by JoinedTournamentRow.Status ordinal
+        final int[] statusColors;
+
+        Palette(Context context) {
+            statusColors = new int[JoinedTournamentRow.Status.values().length];
+            statusColors[JoinedTournamentRow.Status.OPEN.ordinal()] = context.getResources().getColor(R.color.neon_blue);
+            statusColors[JoinedTournamentRow.Status.CLOSED.ordinal()] = context.getResources().getColor(R.color.neon_green);
+            statusColors[JoinedTournamentRow.Status.COMPLETED.ordinal()] = context.getResources().getColor(R.color.text_secondary);
+            statusColors[JoinedTournamentRow.Status.OTHER.ordinal()] = context.getResources().getColor(R.color.text_primary);
+        }
     }
 
     static class JoinedTournamentViewHolder extends RecyclerView.ViewHolder {
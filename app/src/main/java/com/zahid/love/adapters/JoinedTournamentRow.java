@@ -0,0 +1,95 @@
+package com.zahid.love.adapters;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+
+import com.zahid.love.R;
+import com.zahid.love.data.DateStamps;
+import com.zahid.love.models.Tournament;
+import com.zahid.love.utils.StableIds;
+
+import java.text.DecimalFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Objects;
+
+// Everything a joined tournament row shows, formatted once when the list arrives
+final class JoinedTournamentRow {
+
+    enum Status {
+        OPEN, CLOSED, COMPLETED, OTHER
+    }
+
+    static final DiffUtil.ItemCallback<JoinedTournamentRow> DIFF_CALLBACK = new DiffUtil.ItemCallback<JoinedTournamentRow>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull JoinedTournamentRow oldItem, @NonNull JoinedTournamentRow newItem) {
+            return oldItem.stableId == newItem.stableId;
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull JoinedTournamentRow oldItem, @NonNull JoinedTournamentRow newItem) {
+            return Objects.equals(oldItem.title, newItem.title)
+                    && Objects.equals(oldItem.game, newItem.game)
+                    && Objects.equals(oldItem.statusText, newItem.statusText)
+                    && oldItem.entryFeeText.equals(newItem.entryFeeText)
+                    && Objects.equals(oldItem.dateText, newItem.dateText)
+                    && oldItem.gameIconRes == newItem.gameIconRes;
+        }
+    };
+
+    final Tournament tournament;
+    final long stableId;
+    final String title;
+    final String game;
+    final String statusText;
+    final Status status;
+    final String entryFeeText;
+    final String dateText;
+    final int gameIconRes;
+
+    // The formats are not thread-safe; callers pass ones owned by the mapping thread
+    static JoinedTournamentRow from(Tournament tournament, DecimalFormat decimalFormat, SimpleDateFormat dateFormat) {
+        return new JoinedTournamentRow(tournament, decimalFormat, dateFormat);
+    }
+
+    private JoinedTournamentRow(Tournament tournament, DecimalFormat decimalFormat, SimpleDateFormat dateFormat) {
+        String game = tournament.getGame() != null ? tournament.getGame() : "";
+
+        this.tournament = tournament;
+        this.stableId = StableIds.of(tournament.getId());
+        this.title = tournament.getTitle();
+        this.game = tournament.getGame();
+        this.statusText = tournament.getStatus();
+        this.entryFeeText = "৳" + decimalFormat.format(tournament.getEntryFee());
+
+        // Start date, parsed when the response was deserialized
+        DateStamps.Stamp stamp = DateStamps.of(tournament, tournament.getStartsAt());
+        if (stamp.isValid()) {
+            this.dateText = stamp.getDateLabel();
+        } else if (tournament.getStartsAt() == null) {
+            this.dateText = dateFormat.format(new Date());
+        } else {
+            this.dateText = tournament.getTimeUntilStart();
+        }
+
+        // Game icon
+        if (game.equals("Free Fire")) {
+            this.gameIconRes = R.drawable.free_fire_logo;
+        } else if (game.toLowerCase(Locale.ROOT).contains("ludo")) {
+            this.gameIconRes = R.drawable.ludo_logo;
+        } else {
+            this.gameIconRes = R.drawable.app_logo;
+        }
+
+        if ("Open".equals(statusText)) {
+            this.status = Status.OPEN;
+        } else if ("Closed".equals(statusText)) {
+            this.status = Status.CLOSED;
+        } else if ("Completed".equals(statusText)) {
+            this.status = Status.COMPLETED;
+        } else {
+            this.status = Status.OTHER;
+        }
+    }
+}
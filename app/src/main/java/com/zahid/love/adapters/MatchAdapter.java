@@ -1,6 +1,7 @@
 package com.zahid.love.adapters;
 
-import android.os.CountDownTimer;
+import android.content.Context;
+import android.content.res.ColorStateList;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -14,19 +15,20 @@ import com.google.android.material.button.MaterialButton;
 import com.google.android.material.card.MaterialCardView;
 import com.zahid.love.R;
 import com.zahid.love.models.Tournament;
-import com.zahid.love.utils.GameUtils;
+import com.zahid.love.utils.CountdownTicker;
 
 import java.text.DecimalFormat;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 public class MatchAdapter extends RecyclerView.Adapter<MatchAdapter.MatchViewHolder> {
 
-    private List<Tournament> matchList;
+    // Only used by the row mapper, which runs on the single background executor
+    private final DecimalFormat decimalFormat = new DecimalFormat("#,##0.00");
+    private final RowDiffer<Tournament, MatchRow> rows =
+            new RowDiffer<>(this, MatchRow.DIFF_CALLBACK, tournament -> MatchRow.from(tournament, decimalFormat));
     private OnMatchClickListener listener;
-    private DecimalFormat decimalFormat;
-    private Map<String, CountDownTimer> countDownTimers;
+    private CountdownTicker countdownTicker;
+    private Palette palette;
 
     public interface OnMatchClickListener {
         void onMatchClick(Tournament tournament);
@@ -41,10 +43,9 @@ public class MatchAdapter extends RecyclerView.Adapter<MatchAdapter.MatchViewHol
     }
 
     public MatchAdapter(List<Tournament> matchList, OnMatchClickListener listener) {
-        this.matchList = matchList;
+        setHasStableIds(true);
+        submitList(matchList);
         this.listener = listener;
-        this.decimalFormat = new DecimalFormat("#,##0.00");
-        this.countDownTimers = new HashMap<>();
     }
 
     private OnJoinClickListener joinClickListener;
@@ -58,48 +59,33 @@ public class MatchAdapter extends RecyclerView.Adapter<MatchAdapter.MatchViewHol
         this.roomInfoClickListener = listener;
     }
 
-    @NonNull
-    @Override
-    public MatchViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
-        View view = LayoutInflater.from(parent.getContext())
-                .inflate(R.layout.item_match_card, parent, false);
-        return new MatchViewHolder(view);
+    // Without a ticker the countdown shows the server's static time_until_start text
+    public void setCountdownTicker(CountdownTicker countdownTicker) {
+        this.countdownTicker = countdownTicker;
     }
 
+    @NonNull
     @Override
-    public void onBindViewHolder(@NonNull MatchViewHolder holder, int position) {
-        Tournament tournament = matchList.get(position);
-
-        // Basic match info
-        holder.titleTextView.setText(tournament.getTitle());
-        holder.typeTextView.setText(tournament.getMode());
-        holder.entryFeeTextView.setText("Entry: ৳" + decimalFormat.format(tournament.getEntryFee()));
-        holder.prizePoolTextView.setText("Prize: ৳" + decimalFormat.format(tournament.getPrizePool()));
-
-        // Players info
-        holder.playersTextView.setText(tournament.getParticipantsCount() + "/" + tournament.getMaxParticipants() + " players");
-
-        // Status and time
-        holder.dateTimeTextView.setText(tournament.getTimeUntilStart());
-        holder.countdownTextView.setText(tournament.getTimeUntilStart());
-
-        // Load game banner
-        if (holder.bannerImageView != null) {
-            int gameIcon = GameUtils.getGameIcon(tournament.getGame());
-            holder.bannerImageView.setImageResource(gameIcon);
+    public MatchViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        if (palette == null) {
+            palette = new Palette(parent.getContext());
         }
 
-        // Setup buttons
-        setupButtons(tournament, holder);
+        View view = LayoutInflater.from(parent.getContext())
+                .inflate(R.layout.item_match_card, parent, false);
+        MatchViewHolder holder = new MatchViewHolder(view);
 
-        // Click listeners
+        // Listeners look the row up at click time, so a rebind is never needed just to refresh them
         holder.cardView.setOnClickListener(v -> {
-            if (listener != null) {
+            Tournament tournament = itemAt(holder);
+            if (tournament != null && listener != null) {
                 listener.onMatchClick(tournament);
             }
         });
 
         holder.joinButton.setOnClickListener(v -> {
+            Tournament tournament = itemAt(holder);
+            if (tournament == null) return;
             if (joinClickListener != null) {
                 joinClickListener.onJoinClick(tournament);
             } else if (listener != null) {
@@ -108,75 +94,120 @@ public class MatchAdapter extends RecyclerView.Adapter<MatchAdapter.MatchViewHol
         });
 
         holder.roomInfoButton.setOnClickListener(v -> {
-            if (roomInfoClickListener != null) {
+            Tournament tournament = itemAt(holder);
+            if (tournament != null && roomInfoClickListener != null) {
                 roomInfoClickListener.onRoomInfoClick(tournament);
             }
         });
+        return holder;
     }
 
-    private void setupButtons(Tournament tournament, MatchViewHolder holder) {
-        boolean isMatchFull = tournament.getParticipantsCount() >= tournament.getMaxParticipants();
-        boolean isJoinable = tournament.getStatus().equals("Open") && !isMatchFull;
-
-        // Join button logic
-        if (isMatchFull) {
-            holder.joinButton.setText("MATCH FULL");
-            holder.joinButton.setEnabled(false);
-            holder.joinButton.setBackgroundTintList(
-                    holder.itemView.getContext().getResources().getColorStateList(R.color.text_secondary)
-            );
-        } else if (!isJoinable || !tournament.getStatus().equals("Open")) {
-            holder.joinButton.setText("NOT AVAILABLE");
-            holder.joinButton.setEnabled(false);
-            holder.joinButton.setBackgroundTintList(
-                    holder.itemView.getContext().getResources().getColorStateList(R.color.text_secondary)
-            );
-        } else {
-            holder.joinButton.setText("JOIN NOW");
-            holder.joinButton.setEnabled(true);
-            holder.joinButton.setBackgroundTintList(
-                    holder.itemView.getContext().getResources().getColorStateList(R.color.neon_blue)
-            );
+    @Override
+    public void onBindViewHolder(@NonNull MatchViewHolder holder, int position) {
+        MatchRow row = rows.getCurrentList().get(position);
+
+        // Basic match info
+        holder.titleTextView.setText(row.title);
+        holder.typeTextView.setText(row.mode);
+        holder.entryFeeTextView.setText(row.entryFeeText);
+        holder.prizePoolTextView.setText(row.prizePoolText);
+
+        // Players info
+        holder.playersTextView.setText(row.playersText);
+
+        // Status and time
+        holder.dateTimeTextView.setText(row.timeUntilStart);
+        bindCountdown(holder, row);
+
+        // Load game banner
+        if (holder.bannerImageView != null) {
+            holder.bannerImageView.setImageResource(row.gameIconRes);
         }
 
+        // Join button and status indicator
+        boolean open = row.joinState == MatchRow.JoinState.OPEN;
+        holder.joinButton.setText(row.joinState.label);
+        holder.joinButton.setEnabled(open);
+        holder.joinButton.setBackgroundTintList(open ? palette.joinTint : palette.disabledTint);
+        holder.statusIndicator.setBackgroundColor(row.joinState == MatchRow.JoinState.FULL ? palette.fullColor : palette.availableColor);
+
         // Room info button
-        if (tournament.getRoomId() != null && !tournament.getRoomId().isEmpty()) {
+        if (row.hasRoomInfo) {
             holder.roomInfoButton.setText("VIEW ROOM INFO");
             holder.roomInfoButton.setEnabled(true);
-            holder.roomInfoButton.setVisibility(android.view.View.VISIBLE);
+            holder.roomInfoButton.setVisibility(View.VISIBLE);
         } else {
-            holder.roomInfoButton.setVisibility(android.view.View.GONE);
+            holder.roomInfoButton.setVisibility(View.GONE);
         }
+    }
+
+    private void bindCountdown(MatchViewHolder holder, MatchRow row) {
+        holder.startEpochMs = countdownTicker != null ? row.startEpochMs : -1;
 
-        // Status indicator
-        if (isMatchFull) {
-            holder.statusIndicator.setBackgroundColor(
-                    holder.itemView.getContext().getResources().getColor(R.color.text_secondary)
-            );
+        if (holder.startEpochMs < 0) {
+            if (countdownTicker != null) countdownTicker.detach(holder.countdownTextView);
+            holder.countdownTextView.setText(row.timeUntilStart);
+        } else if (holder.itemView.isAttachedToWindow()) {
+            // Rebinding a visible row; onViewAttachedToWindow will not fire again
+            countdownTicker.attach(holder.countdownTextView, holder.startEpochMs);
         } else {
-            holder.statusIndicator.setBackgroundColor(
-                    holder.itemView.getContext().getResources().getColor(R.color.neon_green)
-            );
+            holder.countdownTextView.setText(CountdownTicker.format(holder.startEpochMs - System.currentTimeMillis()));
         }
     }
 
+    private Tournament itemAt(MatchViewHolder holder) {
+        int position = holder.getAdapterPosition();
+        if (position == RecyclerView.NO_POSITION) return null;
+        return rows.getCurrentList().get(position).tournament;
+    }
+
+    // Rows are built and diffed on background threads; the adapter updates once both are done
+    public void submitList(List<Tournament> items) {
+        rows.submit(items);
+    }
+
+    public Tournament getItem(int position) {
+        return rows.getCurrentList().get(position).tournament;
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return rows.getCurrentList().get(position).stableId;
+    }
+
     @Override
     public int getItemCount() {
-        return matchList.size();
+        return rows.getCurrentList().size();
     }
 
     @Override
-    public void onViewRecycled(@NonNull MatchViewHolder holder) {
-        super.onViewRecycled(holder);
-        // Cancel countdown timer when view is recycled
-        int position = holder.getAdapterPosition();
-        if (position != RecyclerView.NO_POSITION && position < matchList.size()) {
-            String matchId = matchList.get(position).getId();
-            CountDownTimer timer = countDownTimers.get(matchId);
-            if (timer != null) {
-                timer.cancel();
-                countDownTimers.remove(matchId);
-            }
+    public void onViewAttachedToWindow(@NonNull MatchViewHolder holder) {
+        super.onViewAttachedToWindow(holder);
+        if (countdownTicker != null && holder.startEpochMs >= 0) {
+            countdownTicker.attach(holder.countdownTextView, holder.startEpochMs);
+        }
+    }
+
+    @Override
+    public void onViewDetachedFromWindow(@NonNull MatchViewHolder holder) {
+        super.onViewDetachedFromWindow(holder);
+        if (countdownTicker != null) {
+            countdownTicker.detach(holder.countdownTextView);
+        }
+    }
+
+    // Colors resolved once per adapter instead of on every bind
+    private static class Palette {
+        final ColorStateList joinTint;
+        final ColorStateList disabledTint;
+        final int availableColor;
+        final int fullColor;
+
+        Palette(Context context) {
+            joinTint = context.getResources().getColorStateList(R.color.neon_blue);
+            disabledTint = context.getResources().getColorStateList(R.color.text_secondary);
+            availableColor = context.getResources().getColor(R.color.neon_green);
+            fullColor = context.getResources().getColor(R.color.text_secondary);
         }
     }
 
@@ -188,6 +219,7 @@ public class MatchAdapter extends RecyclerView.Adapter<MatchAdapter.MatchViewHol
         TextView entryFeeTextView, prizePoolTextView;
         TextView playersTextView, dateTimeTextView, countdownTextView;
         MaterialButton joinButton, roomInfoButton;
+        long startEpochMs = -1;
 
         public MatchViewHolder(@NonNull View itemView) {
             super(itemView);
@@ -0,0 +1,101 @@
+package com.zahid.love.adapters;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+
+import com.zahid.love.data.DateStamps;
+import com.zahid.love.models.Tournament;
+import com.zahid.love.utils.GameUtils;
+import com.zahid.love.utils.StableIds;
+
+import java.text.DecimalFormat;
+import java.util.Objects;
+
+// Everything a match card shows, formatted once when the list arrives
+final class MatchRow {
+
+    enum JoinState {
+        OPEN("JOIN NOW"),
+        FULL("MATCH FULL"),
+        UNAVAILABLE("NOT AVAILABLE");
+
+        final String label;
+
+        JoinState(String label) {
+            this.label = label;
+        }
+    }
+
+    static final DiffUtil.ItemCallback<MatchRow> DIFF_CALLBACK = new DiffUtil.ItemCallback<MatchRow>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull MatchRow oldItem, @NonNull MatchRow newItem) {
+            return oldItem.stableId == newItem.stableId;
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull MatchRow oldItem, @NonNull MatchRow newItem) {
+            return Objects.equals(oldItem.title, newItem.title)
+                    && Objects.equals(oldItem.mode, newItem.mode)
+                    && oldItem.entryFeeText.equals(newItem.entryFeeText)
+                    && oldItem.prizePoolText.equals(newItem.prizePoolText)
+                    && oldItem.playersText.equals(newItem.playersText)
+                    && Objects.equals(oldItem.timeUntilStart, newItem.timeUntilStart)
+                    && oldItem.startEpochMs == newItem.startEpochMs
+                    && oldItem.gameIconRes == newItem.gameIconRes
+                    && oldItem.joinState == newItem.joinState
+                    && oldItem.hasRoomInfo == newItem.hasRoomInfo;
+        }
+    };
+
+    // Kept for click listeners; never read while binding
+    final Tournament tournament;
+    final long stableId;
+    final String title;
+    final String mode;
+    final String entryFeeText;
+    final String prizePoolText;
+    final String playersText;
+    final String timeUntilStart;
+    final long startEpochMs;
+    final int gameIconRes;
+    final JoinState joinState;
+    final boolean hasRoomInfo;
+
+    // The format is not thread-safe; callers pass one owned by the mapping thread
+    static MatchRow from(Tournament tournament, DecimalFormat decimalFormat) {
+        return new MatchRow(tournament, decimalFormat);
+    }
+
+    private MatchRow(Tournament tournament, DecimalFormat decimalFormat) {
+        this.tournament = tournament;
+        this.stableId = StableIds.of(tournament.getId());
+        this.title = tournament.getTitle();
+        this.mode = tournament.getMode();
+        this.entryFeeText = amountText("Entry", tournament.getEntryFee(), decimalFormat);
+        this.prizePoolText = amountText("Prize", tournament.getPrizePool(), decimalFormat);
+        this.playersText = playersText(tournament.getParticipantsCount(), tournament.getMaxParticipants());
+        this.timeUntilStart = tournament.getTimeUntilStart();
+        this.startEpochMs = DateStamps.of(tournament, tournament.getStartsAt()).getEpochMs();
+        this.gameIconRes = GameUtils.getGameIcon(tournament.getGame());
+        this.joinState = joinStateFor(tournament.getParticipantsCount(), tournament.getMaxParticipants(), tournament.getStatus());
+        this.hasRoomInfo = tournament.getRoomId() != null && !tournament.getRoomId().isEmpty();
+    }
+
+    static String amountText(String label, double amount, DecimalFormat decimalFormat) {
+        return label + ": ৳" + decimalFormat.format(amount);
+    }
+
+    static String playersText(int participants, int maxParticipants) {
+        return participants + "/" + maxParticipants + " players";
+    }
+
+    // A full match reads as full whatever its status says
+    static JoinState joinStateFor(int participants, int maxParticipants, String status) {
+        if (participants >= maxParticipants) {
+            return JoinState.FULL;
+        } else if ("Open".equals(status)) {
+            return JoinState.OPEN;
+        }
+        return JoinState.UNAVAILABLE;
+    }
+}
@@ -7,23 +7,49 @@ import android.widget.ImageView;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.AsyncListDiffer;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.zahid.love.R;
+import com.zahid.love.data.DateStamps;
 import com.zahid.love.models.Notification;
+import com.zahid.love.repository.NotificationAckQueue;
+import com.zahid.love.repository.UnreadCountService;
+import com.zahid.love.utils.StableIds;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
 public class NotificationAdapter extends RecyclerView.Adapter<NotificationAdapter.NotificationViewHolder> {
 
-    private List<Notification> notificationList;
+    private static final DiffUtil.ItemCallback<Notification> DIFF_CALLBACK = new DiffUtil.ItemCallback<Notification>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull Notification oldItem, @NonNull Notification newItem) {
+            return Objects.equals(oldItem.getId(), newItem.getId());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull Notification oldItem, @NonNull Notification newItem) {
+            return Objects.equals(oldItem.getTitle(), newItem.getTitle())
+                    && Objects.equals(oldItem.getBody(), newItem.getBody())
+                    && Objects.equals(oldItem.getMessage(), newItem.getMessage())
+                    && Objects.equals(oldItem.getType(), newItem.getType())
+                    && Objects.equals(oldItem.getCreatedAt(), newItem.getCreatedAt())
+                    && oldItem.isRead() == newItem.isRead();
+        }
+    };
+
+    private final AsyncListDiffer<Notification> differ = new AsyncListDiffer<>(this, DIFF_CALLBACK);
     private SimpleDateFormat dateFormat;
 
     public NotificationAdapter(List<Notification> notificationList) {
-        this.notificationList = notificationList;
+        setHasStableIds(true);
+        submitList(notificationList);
         this.dateFormat = new SimpleDateFormat("MMM dd, yyyy HH:mm", Locale.getDefault());
     }
 
@@ -37,22 +63,18 @@ public class NotificationAdapter extends RecyclerView.Adapter<NotificationAdapte
 
     @Override
     public void onBindViewHolder(@NonNull NotificationViewHolder holder, int position) {
-        Notification notification = notificationList.get(position);
+        Notification notification = differ.getCurrentList().get(position);
         
         holder.titleTextView.setText(notification.getTitle());
         holder.messageTextView.setText(notification.getBody() != null ? notification.getBody() : notification.getMessage());
         
-        // Parse created_at string to date
-        try {
-            if (notification.getCreatedAt() != null) {
-                // Parse ISO date string from Laravel
-                java.text.SimpleDateFormat isoFormat = new java.text.SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSSSS'Z'", java.util.Locale.getDefault());
-                Date date = isoFormat.parse(notification.getCreatedAt());
-                holder.dateTextView.setText(dateFormat.format(date));
-            } else {
-                holder.dateTextView.setText(dateFormat.format(new Date(notification.getTimestamp())));
-            }
-        } catch (Exception e) {
+        // created_at, parsed when the response was deserialized
+        DateStamps.Stamp stamp = DateStamps.of(notification, notification.getCreatedAt());
+        if (stamp.isValid()) {
+            holder.dateTextView.setText(stamp.getDateTimeLabel());
+        } else if (notification.getCreatedAt() == null) {
+            holder.dateTextView.setText(dateFormat.format(new Date(notification.getTimestamp())));
+        } else {
             holder.dateTextView.setText(dateFormat.format(new Date()));
         }
         
@@ -81,38 +103,36 @@ public class NotificationAdapter extends RecyclerView.Adapter<NotificationAdapte
             holder.itemView.setAlpha(1.0f);
         }
         
-        // Add click listener to mark as read
+        // Mark as read right away; the ack is batched and retried in the background
         holder.itemView.setOnClickListener(v -> {
             if (!notification.isRead()) {
-                markNotificationAsRead(notification, position);
-            }
-        });
-    }
-    
-    private void markNotificationAsRead(Notification notification, int position) {
-        com.zahid.love.api.ApiClient.getApiService().markNotificationAsRead(notification.getIdInt()).enqueue(new retrofit2.Callback<com.zahid.love.models.api.ApiResponse<Object>>() {
-            @Override
-            public void onResponse(retrofit2.Call<com.zahid.love.models.api.ApiResponse<Object>> call, retrofit2.Response<com.zahid.love.models.api.ApiResponse<Object>> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    com.zahid.love.models.api.ApiResponse<Object> apiResponse = response.body();
-                    
-                    if (apiResponse.isSuccess()) {
-                        notification.setRead(true);
-                        notifyItemChanged(position);
-                    }
+                notification.setRead(true);
+                int currentPosition = holder.getAdapterPosition();
+                if (currentPosition != RecyclerView.NO_POSITION) {
+                    notifyItemChanged(currentPosition);
                 }
-            }
-            
-            @Override
-            public void onFailure(retrofit2.Call<com.zahid.love.models.api.ApiResponse<Object>> call, Throwable t) {
-                // Ignore failure for now
+                NotificationAckQueue.acknowledge(v.getContext(), notification.getIdInt());
+                UnreadCountService.adjust(-1);
             }
         });
     }
 
+    public void submitList(List<Notification> items) {
+        differ.submitList(items != null ? new ArrayList<>(items) : null);
+    }
+
+    public Notification getItem(int position) {
+        return differ.getCurrentList().get(position);
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return StableIds.of(differ.getCurrentList().get(position).getId());
+    }
+
     @Override
     public int getItemCount() {
-        return notificationList.size();
+        return differ.getCurrentList().size();
     }
 
     static class NotificationViewHolder extends RecyclerView.ViewHolder {
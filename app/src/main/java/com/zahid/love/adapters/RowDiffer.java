@@ -0,0 +1,75 @@
+package com.zahid.love.adapters;
+
+import android.util.Log;
+
+import androidx.recyclerview.widget.AsyncListDiffer;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.zahid.love.utils.AppExecutors;
+import com.zahid.love.utils.MainThreadBudget;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Turns submitted models into immutable row models on the background executor and then diffs
+// them, so onBindViewHolder only copies precomputed fields into views. Submit on the main thread.
+class RowDiffer<T, R> {
+
+    private static final String TAG = "RowDiffer";
+
+    interface Mapper<T, R> {
+        // Runs on the background executor; must not touch views or resources
+        R map(T item);
+    }
+
+    private final AsyncListDiffer<R> differ;
+    private final Mapper<T, R> mapper;
+    private int generation = 0;
+
+    RowDiffer(RecyclerView.Adapter<?> adapter, DiffUtil.ItemCallback<R> diffCallback, Mapper<T, R> mapper) {
+        this.differ = new AsyncListDiffer<>(adapter, diffCallback);
+        this.mapper = mapper;
+    }
+
+    void submit(List<T> items) {
+        final int submitted = ++generation;
+        if (items == null) {
+            differ.submitList(null);
+            return;
+        }
+
+        // Copied here so callers can keep mutating their own list
+        final List<T> copy = new ArrayList<>(items);
+        AppExecutors.background().execute(() -> {
+            List<R> result;
+            try {
+                result = mapAll(copy, mapper);
+            } catch (Exception e) {
+                // One bad row drops this update; the list keeps showing the previous one
+                Log.e(TAG, "Error mapping rows", e);
+                return;
+            }
+            AppExecutors.runOnMain(() -> {
+                // A newer list was submitted while this one was being mapped
+                if (submitted == generation) {
+                    MainThreadBudget.run("Row submit", () -> differ.submitList(result));
+                }
+            });
+        });
+    }
+
+    List<R> getCurrentList() {
+        return differ.getCurrentList();
+    }
+
+    // Null entries are skipped rather than mapped, so rows never hold a null model
+    static <T, R> List<R> mapAll(List<T> items, Mapper<T, R> mapper) {
+        List<R> rows = new ArrayList<>(items.size());
+        for (T item : items) {
+            if (item != null) rows.add(mapper.map(item));
+        }
+        return Collections.unmodifiableList(rows);
+    }
+}
@@ -7,6 +7,7 @@ import android.widget.ImageView;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.AsyncListDiffer;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.google.android.material.button.MaterialButton;
@@ -14,16 +15,18 @@ import com.google.android.material.card.MaterialCardView;
 import com.zahid.love.R;
 import com.zahid.love.models.Tournament;
 import com.zahid.love.utils.GameUtils;
+import com.zahid.love.utils.StableIds;
 
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 
 public class TournamentAdapter extends RecyclerView.Adapter<TournamentAdapter.TournamentViewHolder> {
 
-    private List<Tournament> tournamentList;
+    private final AsyncListDiffer<Tournament> differ = new AsyncListDiffer<>(this, new TournamentDiffCallback());
     private OnTournamentClickListener listener;
     private DecimalFormat decimalFormat;
     private SimpleDateFormat dateFormat;
@@ -33,7 +36,8 @@ public class TournamentAdapter extends RecyclerView.Adapter<TournamentAdapter.To
     }
 
     public TournamentAdapter(List<Tournament> tournamentList, OnTournamentClickListener listener) {
-        this.tournamentList = tournamentList;
+        setHasStableIds(true);
+        submitList(tournamentList);
         this.listener = listener;
         this.decimalFormat = new DecimalFormat("#,##0.00");
         this.dateFormat = new SimpleDateFormat("MMM dd, yyyy HH:mm", Locale.getDefault());
@@ -49,7 +53,7 @@ public class TournamentAdapter extends RecyclerView.Adapter<TournamentAdapter.To
 
     @Override
     public void onBindViewHolder(@NonNull TournamentViewHolder holder, int position) {
-        Tournament tournament = tournamentList.get(position);
+        Tournament tournament = differ.getCurrentList().get(position);
         
         holder.titleTextView.setText(tournament.getTitle());
         holder.gameTextView.setText(tournament.getGame());
@@ -115,9 +119,22 @@ public class TournamentAdapter extends RecyclerView.Adapter<TournamentAdapter.To
         });
     }
 
+    public void submitList(List<Tournament> items) {
+        differ.submitList(items != null ? new ArrayList<>(items) : null);
+    }
+
+    public Tournament getItem(int position) {
+        return differ.getCurrentList().get(position);
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return StableIds.of(differ.getCurrentList().get(position).getId());
+    }
+
     @Override
     public int getItemCount() {
-        return tournamentList.size();
+        return differ.getCurrentList().size();
     }
 
     static class TournamentViewHolder extends RecyclerView.ViewHolder {
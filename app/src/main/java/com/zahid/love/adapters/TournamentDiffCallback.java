@@ -0,0 +1,33 @@
+package com.zahid.love.adapters;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+
+import com.zahid.love.models.Tournament;
+
+import java.util.Objects;
+
+// Shared by every adapter that lists tournaments; compares only the fields the rows display
+class TournamentDiffCallback extends DiffUtil.ItemCallback<Tournament> {
+
+    @Override
+    public boolean areItemsTheSame(@NonNull Tournament oldItem, @NonNull Tournament newItem) {
+        return Objects.equals(oldItem.getId(), newItem.getId());
+    }
+
+    @Override
+    public boolean areContentsTheSame(@NonNull Tournament oldItem, @NonNull Tournament newItem) {
+        return Objects.equals(oldItem.getTitle(), newItem.getTitle())
+                && Objects.equals(oldItem.getGame(), newItem.getGame())
+                && Objects.equals(oldItem.getMode(), newItem.getMode())
+                && Objects.equals(oldItem.getStatus(), newItem.getStatus())
+                && Objects.equals(oldItem.getStartsAt(), newItem.getStartsAt())
+                && Objects.equals(oldItem.getTimeUntilStart(), newItem.getTimeUntilStart())
+                && Objects.equals(oldItem.getRoomId(), newItem.getRoomId())
+                && Objects.equals(oldItem.getRoomPassword(), newItem.getRoomPassword())
+                && oldItem.getEntryFee() == newItem.getEntryFee()
+                && oldItem.getPrizePool() == newItem.getPrizePool()
+                && oldItem.getParticipantsCount() == newItem.getParticipantsCount()
+                && oldItem.getMaxParticipants() == newItem.getMaxParticipants();
+    }
+}
@@ -1,5 +1,6 @@
 package com.zahid.love.adapters;
 
+import android.content.Context;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -14,25 +15,30 @@ import com.zahid.love.models.Transaction;
 
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
-import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 
 public class TransactionAdapter extends RecyclerView.Adapter<TransactionAdapter.TransactionViewHolder> {
 
-    private List<Transaction> transactionList;
-    private DecimalFormat decimalFormat;
-    private SimpleDateFormat dateFormat;
+    // Only used by the row mapper, which runs on the single background executor
+    private final DecimalFormat decimalFormat = new DecimalFormat("#,##0.00");
+    private final SimpleDateFormat dateFormat = new SimpleDateFormat("MMM dd, yyyy HH:mm", Locale.getDefault());
+    private final RowDiffer<Transaction, TransactionRow> rows = new RowDiffer<>(this, TransactionRow.DIFF_CALLBACK,
+            transaction -> TransactionRow.from(transaction, decimalFormat, dateFormat));
+    private Palette palette;
 
     public TransactionAdapter(List<Transaction> transactionList) {
-        this.transactionList = transactionList;
-        this.decimalFormat = new DecimalFormat("#,##0.00");
-        this.dateFormat = new SimpleDateFormat("MMM dd, yyyy HH:mm", Locale.getDefault());
+        setHasStableIds(true);
+        submitList(transactionList);
     }
 
     @NonNull
     @Override
     public TransactionViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        if (palette == null) {
+            palette = new Palette(parent.getContext());
+        }
+
         View view = LayoutInflater.from(parent.getContext())
                 .inflate(R.layout.item_transaction, parent, false);
         return new TransactionViewHolder(view);
@@ -40,108 +46,51 @@ public class TransactionAdapter extends RecyclerView.Adapter<TransactionAdapter.
 
     @Override
     public void onBindViewHolder(@NonNull TransactionViewHolder holder, int position) {
-        Transaction transaction = transactionList.get(position);
-        
-        // Set transaction type and description
-        String description = getTransactionDescription(transaction);
-        holder.descriptionTextView.setText(description);
-        
-        // Set amount with proper sign
-        String amountText;
-        int amountColor;
-        if (transaction.getType().equals("credit")) {
-            amountText = "+৳" + decimalFormat.format(transaction.getAmount());
-            amountColor = holder.itemView.getContext().getResources().getColor(R.color.neon_green);
-        } else {
-            amountText = "-৳" + decimalFormat.format(Math.abs(transaction.getAmount()));
-            amountColor = holder.itemView.getContext().getResources().getColor(R.color.error_color);
-        }
-        holder.amountTextView.setText(amountText);
-        holder.amountTextView.setTextColor(amountColor);
-        
-        // Set status
-        String status = transaction.getStatus() != null ? transaction.getStatus() : "completed";
-        holder.statusTextView.setText(status.toUpperCase());
-        int statusColor;
-        switch (status) {
-            case "approved":
-            case "completed":
-                statusColor = holder.itemView.getContext().getResources().getColor(R.color.neon_green);
-                break;
-            case "pending":
-                statusColor = holder.itemView.getContext().getResources().getColor(R.color.warning_color);
-                break;
-            case "rejected":
-                statusColor = holder.itemView.getContext().getResources().getColor(R.color.error_color);
-                break;
-            default:
-                statusColor = holder.itemView.getContext().getResources().getColor(R.color.text_secondary);
-                break;
-        }
-        holder.statusTextView.setTextColor(statusColor);
-        
-        // Set date
-        try {
-            if (transaction.getCreatedAt() != null) {
-                // Parse ISO date string from Laravel
-                java.text.SimpleDateFormat isoFormat = new java.text.SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSSSS'Z'", java.util.Locale.getDefault());
-                Date date = isoFormat.parse(transaction.getCreatedAt());
-                holder.dateTextView.setText(dateFormat.format(date));
-            } else {
-                holder.dateTextView.setText(dateFormat.format(new Date(transaction.getTimestamp())));
-            }
-        } catch (Exception e) {
-            holder.dateTextView.setText(dateFormat.format(new Date()));
-        }
-        
-        // Set icon based on transaction type
-        int iconResource;
-        switch (transaction.getType()) {
-            case "credit":
-                iconResource = R.drawable.ic_add_money;
-                break;
-            case "debit":
-                iconResource = R.drawable.ic_withdraw_money;
-                break;
-            default:
-                // Determine icon based on reason
-                if (transaction.getReason() != null) {
-                    if (transaction.getReason().toLowerCase().contains("prize")) {
-                        iconResource = R.drawable.ic_prize;
-                    } else if (transaction.getReason().toLowerCase().contains("tournament")) {
-                        iconResource = R.drawable.ic_tournament;
-                    } else {
-                        iconResource = R.drawable.ic_transaction;
-                    }
-                } else {
-                    iconResource = R.drawable.ic_transaction;
-                }
-                break;
-        }
-        holder.iconImageView.setImageResource(iconResource);
+        TransactionRow row = rows.getCurrentList().get(position);
+
+        holder.descriptionTextView.setText(row.description);
+        holder.amountTextView.setText(row.amountText);
+        holder.amountTextView.setTextColor(row.credit ? palette.creditColor : palette.debitColor);
+        holder.statusTextView.setText(row.statusText);
+        holder.statusTextView.setTextColor(palette.statusColors[row.status.ordinal()]);
+        holder.dateTextView.setText(row.dateText);
+        holder.iconImageView.setImageResource(row.iconRes);
     }
 
-    private String getTransactionDescription(Transaction transaction) {
-        if (transaction.getReason() != null && !transaction.getReason().isEmpty()) {
-            return transaction.getReason();
-        } else if (transaction.getDescription() != null && !transaction.getDescription().isEmpty()) {
-            return transaction.getDescription();
-        } else {
-            // Fallback based on type
-            switch (transaction.getType()) {
-                case "credit":
-                    return "Money Added";
-                case "debit":
-                    return "Money Deducted";
-                default:
-                    return "Transaction";
-            }
-        }
+    public void submitList(List<Transaction> items) {
+        rows.submit(items);
+    }
+
+    public Transaction getItem(int position) {
+        return rows.getCurrentList().get(position).transaction;
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return rows.getCurrentList().get(position).stableId;
     }
 
     @Override
     public int getItemCount() {
-        return transactionList.size();
+        return rows.getCurrentList().size();
+    }
+
+    // Colors resolved once per adapter instead of on every bind
+    private static class Palette {
+        final int creditColor;
+        final int debitColor;
+        // Indexed by TransactionRow.Status ordinal
+        final int[] statusColors;
+
+        Palette(Context context) {
+            creditColor = context.getResources().getColor(R.color.neon_green);
+            debitColor = context.getResources().getColor(R.color.error_color);
+            statusColors = new int[TransactionRow.Status.values().length];
+            statusColors[TransactionRow.Status.COMPLETED.ordinal()] = context.getResources().getColor(R.color.neon_green);
+            statusColors[TransactionRow.Status.PENDING.ordinal()] = context.getResources().getColor(R.color.warning_color);
+            statusColors[TransactionRow.Status.REJECTED.ordinal()] = context.getResources().getColor(R.color.error_color);
+            statusColors[TransactionRow.Status.OTHER.ordinal()] = context.getResources().getColor(R.color.text_secondary);
+        }
     }
 
     static class TransactionViewHolder extends RecyclerView.ViewHolder {
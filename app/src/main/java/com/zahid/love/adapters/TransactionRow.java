@@ -0,0 +1,137 @@
+package com.zahid.love.adapters;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+
+import com.zahid.love.R;
+import com.zahid.love.data.DateStamps;
+import com.zahid.love.models.Transaction;
+import com.zahid.love.utils.StableIds;
+
+import java.text.DecimalFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+// Everything a transaction row shows, formatted once when the page arrives
+final class TransactionRow {
+
+    enum Status {
+        COMPLETED, PENDING, REJECTED, OTHER
+    }
+
+    static final DiffUtil.ItemCallback<TransactionRow> DIFF_CALLBACK = new DiffUtil.ItemCallback<TransactionRow>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull TransactionRow oldItem, @NonNull TransactionRow newItem) {
+            return oldItem.stableId == newItem.stableId;
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull TransactionRow oldItem, @NonNull TransactionRow newItem) {
+            return oldItem.description.equals(newItem.description)
+                    && oldItem.amountText.equals(newItem.amountText)
+                    && oldItem.credit == newItem.credit
+                    && oldItem.statusText.equals(newItem.statusText)
+                    && oldItem.status == newItem.status
+                    && oldItem.dateText.equals(newItem.dateText)
+                    && oldItem.iconRes == newItem.iconRes;
+        }
+    };
+
+    final Transaction transaction;
+    final long stableId;
+    final String description;
+    final String amountText;
+    final boolean credit;
+    final String statusText;
+    final Status status;
+    final String dateText;
+    final int iconRes;
+
+    // The formats are not thread-safe; callers pass ones owned by the mapping thread
+    static TransactionRow from(Transaction transaction, DecimalFormat decimalFormat, SimpleDateFormat dateFormat) {
+        return new TransactionRow(transaction, decimalFormat, dateFormat);
+    }
+
+    private TransactionRow(Transaction transaction, DecimalFormat decimalFormat, SimpleDateFormat dateFormat) {
+        String type = transaction.getType() != null ? transaction.getType() : "";
+        String reason = transaction.getReason();
+
+        this.transaction = transaction;
+        this.stableId = StableIds.of(transaction.getId());
+        this.description = describe(transaction, type);
+
+        // Amount with proper sign
+        this.credit = type.equals("credit");
+        this.amountText = credit
+                ? "+৳" + decimalFormat.format(transaction.getAmount())
+                : "-৳" + decimalFormat.format(Math.abs(transaction.getAmount()));
+
+        // Status
+        String rawStatus = transaction.getStatus() != null ? transaction.getStatus() : "completed";
+        this.statusText = rawStatus.toUpperCase(Locale.ROOT);
+        switch (rawStatus) {
+            case "approved":
+            case "completed":
+                this.status = Status.COMPLETED;
+                break;
+            case "pending":
+                this.status = Status.PENDING;
+                break;
+            case "rejected":
+                this.status = Status.REJECTED;
+                break;
+            default:
+                this.status = Status.OTHER;
+                break;
+        }
+
+        // Date
+        DateStamps.Stamp stamp = DateStamps.of(transaction, transaction.getCreatedAt());
+        if (stamp.isValid()) {
+            this.dateText = stamp.getDateTimeLabel();
+        } else if (transaction.getCreatedAt() == null) {
+            this.dateText = dateFormat.format(new Date(transaction.getTimestamp()));
+        } else {
+            this.dateText = dateFormat.format(new Date());
+        }
+
+        // Icon based on transaction type, then reason
+        String lowerReason = reason != null ? reason.toLowerCase(Locale.ROOT) : "";
+        switch (type) {
+            case "credit":
+                this.iconRes = R.drawable.ic_add_money;
+                break;
+            case "debit":
+                this.iconRes = R.drawable.ic_withdraw_money;
+                break;
+            default:
+                if (lowerReason.contains("prize")) {
+                    this.iconRes = R.drawable.ic_prize;
+                } else if (lowerReason.contains("tournament")) {
+                    this.iconRes = R.drawable.ic_tournament;
+                } else {
+                    this.iconRes = R.drawable.ic_transaction;
+                }
+                break;
+        }
+    }
+
+    private static String describe(Transaction transaction, String type) {
+        if (transaction.getReason() != null && !transaction.getReason().isEmpty()) {
+            return transaction.getReason();
+        } else if (transaction.getDescription() != null && !transaction.getDescription().isEmpty()) {
+            return transaction.getDescription();
+        } else {
+            // Fallback based on type
+            switch (type) {
+                case "credit":
+                    return "Money Added";
+                case "debit":
+                    return "Money Deducted";
+                default:
+                    return "Transaction";
+            }
+        }
+    }
+}
@@ -2,16 +2,24 @@ package com.zahid.love.api;
 
 import android.content.Context;
 import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 
 import com.google.gson.Gson;
+import com.zahid.love.BuildConfig;
 import com.google.gson.GsonBuilder;
+import com.zahid.love.data.LocalStore;
+import com.zahid.love.repository.NotificationAckQueue;
+import com.zahid.love.repository.TournamentSync;
 
+import java.io.File;
 import java.util.concurrent.TimeUnit;
 
-import okhttp3.Interceptor;
+import okhttp3.Cache;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
+import okhttp3.Response;
 import okhttp3.logging.HttpLoggingInterceptor;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
@@ -21,10 +29,27 @@ public class ApiClient {
     private static final String BASE_URL = "https://api.esportsekattor.com/api/";
     private static final String PREFS_NAME = "auth_prefs";
     private static final String TOKEN_KEY = "auth_token";
+    private static final String HTTP_CACHE_DIR = "http_cache";
+    private static final long HTTP_CACHE_SIZE = 20L * 1024 * 1024;
 
-    private static Retrofit retrofit = null;
+    private static volatile OkHttpClient okHttpClient = null;
+    private static volatile Retrofit retrofit = null;
+    private static volatile Gson gson = null;
+    private static volatile ApiService apiService = null;
+    private static volatile HttpLoggingInterceptor loggingInterceptor = null;
+    private static volatile Cache httpCache = null;
+    private static volatile boolean bodyLoggingEnabled = false;
     private static Context appContext;
 
+    private static final Object TOKEN_LOCK = new Object();
+    private static volatile String cachedToken = null;
+    private static volatile boolean tokenLoaded = false;
+    private static volatile SessionExpiredListener sessionExpiredListener;
+
+    public interface SessionExpiredListener {
+        void onSessionExpired();
+    }
+
     public static void initialize(Context context) {
         try {
             appContext = context.getApplicationContext();
@@ -36,65 +61,150 @@ public class ApiClient {
 
     public static Retrofit getClient() {
         if (retrofit == null) {
-            try {
-                HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
-                logging.setLevel(HttpLoggingInterceptor.Level.BODY);
-
-                OkHttpClient.Builder httpClient = new OkHttpClient.Builder()
-                        .connectTimeout(30, TimeUnit.SECONDS)
-                        .readTimeout(30, TimeUnit.SECONDS)
-                        .writeTimeout(30, TimeUnit.SECONDS)
-                        .addInterceptor(logging);
-
-                // Add auth interceptor
-                if (appContext != null) {
-                    httpClient.addInterceptor(chain -> {
-                        Request original = chain.request();
-                        String token = getAuthToken();
-
-                        if (token != null && !token.isEmpty()) {
-                            Request.Builder requestBuilder = original.newBuilder()
-                                    .header("Authorization", "Bearer " + token)
-                                    .header("Accept", "application/json")
-                                    .header("Content-Type", "application/json");
-
-                            Request request = requestBuilder.build();
-                            return chain.proceed(request);
-                        }
-
-                        return chain.proceed(original);
-                    });
+            synchronized (ApiClient.class) {
+                if (retrofit == null) {
+                    retrofit = buildRetrofit();
+                }
+            }
+        }
+        return retrofit;
+    }
+
+    public static OkHttpClient getHttpClient() {
+        if (okHttpClient == null) {
+            synchronized (ApiClient.class) {
+                if (okHttpClient == null) {
+                    okHttpClient = buildHttpClient();
                 }
+            }
+        }
+        return okHttpClient;
+    }
 
-                Gson gson = new GsonBuilder()
-                        .setLenient()
-                        .create();
+    private static OkHttpClient buildHttpClient() {
+        OkHttpClient.Builder httpClient = new OkHttpClient.Builder()
+                .connectTimeout(30, TimeUnit.SECONDS)
+                .readTimeout(30, TimeUnit.SECONDS)
+                .writeTimeout(30, TimeUnit.SECONDS)
+                .addInterceptor(new MetricsInterceptor())
+                .addNetworkInterceptor(new CachePolicyInterceptor());
 
-                retrofit = new Retrofit.Builder()
-                        .baseUrl(BASE_URL)
-                        .client(httpClient.build())
-                        .addConverterFactory(GsonConverterFactory.create(gson))
-                        .build();
+        if (appContext != null) {
+            httpCache = new Cache(new File(appContext.getCacheDir(), HTTP_CACHE_DIR), HTTP_CACHE_SIZE);
+            httpClient.cache(httpCache);
+        }
+
+        // Release builds never log, so no interceptor is installed at all
+        HttpLoggingInterceptor.Level logLevel = defaultLogLevel();
+        if (logLevel != HttpLoggingInterceptor.Level.NONE) {
+            loggingInterceptor = new HttpLoggingInterceptor();
+            loggingInterceptor.setLevel(bodyLoggingEnabled ? HttpLoggingInterceptor.Level.BODY : logLevel);
+            httpClient.addInterceptor(loggingInterceptor);
+        }
+
+        // Add auth interceptor
+        if (appContext != null) {
+            httpClient.addInterceptor(chain -> {
+                Request original = chain.request();
+                String token = getAuthToken();
+
+                if (token != null && !token.isEmpty()) {
+                    Request.Builder requestBuilder = original.newBuilder()
+                            .header("Authorization", "Bearer " + token)
+                            .header("Accept", "application/json")
+                            .header("Content-Type", "application/json");
 
-                Log.d(TAG, "Retrofit client created successfully");
-            } catch (Exception e) {
-                Log.e(TAG, "Error creating Retrofit client", e);
+                    Request request = requestBuilder.build();
+                    return chain.proceed(request);
+                }
+
+                return chain.proceed(original);
+            });
+
+            // A single 401 invalidates the session once, however many calls were in flight
+            httpClient.authenticator((route, response) -> authenticate(response));
+        }
+
+        return httpClient.build();
+    }
+
+    public static Cache getHttpCache() {
+        return httpCache;
+    }
+
+    private static HttpLoggingInterceptor.Level defaultLogLevel() {
+        if (BuildConfig.DEBUG || "staging".equals(BuildConfig.BUILD_TYPE)) {
+            return HttpLoggingInterceptor.Level.HEADERS;
+        }
+        return HttpLoggingInterceptor.Level.NONE;
+    }
+
+    public static void setBodyLoggingEnabled(boolean enabled) {
+        // Full body logging buffers every payload, so it is only available in debug builds
+        if (!BuildConfig.DEBUG) {
+            return;
+        }
+        bodyLoggingEnabled = enabled;
+        HttpLoggingInterceptor logging = loggingInterceptor;
+        if (logging != null) {
+            logging.setLevel(enabled ? HttpLoggingInterceptor.Level.BODY : defaultLogLevel());
+        }
+    }
+
+    // Shared with the local store so models saved to disk read back exactly as from the API
+    public static Gson getGson() {
+        if (gson == null) {
+            synchronized (ApiClient.class) {
+                if (gson == null) {
+                    gson = new GsonBuilder()
+                            .setLenient()
+                                    .registerTypeAdapterFactory(new DateStampAdapterFactory())
+                            .create();
+                }
             }
         }
-        return retrofit;
+        return gson;
     }
 
-    public static ApiService getApiService() {
+    private static Retrofit buildRetrofit() {
         try {
-            return getClient().create(ApiService.class);
+            Retrofit client = new Retrofit.Builder()
+                    .baseUrl(BASE_URL)
+                    .client(getHttpClient())
+                    .addConverterFactory(GsonConverterFactory.create(getGson()))
+                    .build();
+
+            Log.d(TAG, "Retrofit client created successfully");
+            return client;
         } catch (Exception e) {
-            Log.e(TAG, "Error creating ApiService", e);
+            Log.e(TAG, "Error creating Retrofit client", e);
             return null;
         }
     }
 
+    public static ApiService getApiService() {
+        // The Retrofit proxy is immutable and thread-safe, so one instance serves every caller
+        if (apiService == null) {
+            synchronized (ApiClient.class) {
+                if (apiService == null) {
+                    try {
+                        apiService = getClient().create(ApiService.class);
+                    } catch (Exception e) {
+                        Log.e(TAG, "Error creating ApiService", e);
+                        return null;
+                    }
+                }
+            }
+        }
+        return apiService;
+    }
+
     public static void saveAuthToken(String token) {
         try {
+            synchronized (TOKEN_LOCK) {
+                cachedToken = token;
+                tokenLoaded = true;
+            }
             if (appContext != null) {
                 SharedPreferences prefs = appContext.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
                 prefs.edit().putString(TOKEN_KEY, token).apply();
@@ -106,10 +216,18 @@ public class ApiClient {
     }
 
     public static String getAuthToken() {
+        // Served from memory after the first read so the dispatcher threads never touch prefs
+        if (tokenLoaded) {
+            return cachedToken;
+        }
         try {
-            if (appContext != null) {
-                SharedPreferences prefs = appContext.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
-                return prefs.getString(TOKEN_KEY, null);
+            synchronized (TOKEN_LOCK) {
+                if (!tokenLoaded && appContext != null) {
+                    SharedPreferences prefs = appContext.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+                    cachedToken = prefs.getString(TOKEN_KEY, null);
+                    tokenLoaded = true;
+                }
+                return cachedToken;
             }
         } catch (Exception e) {
             Log.e(TAG, "Error getting auth token", e);
@@ -119,16 +237,69 @@ public class ApiClient {
 
     public static void clearAuthToken() {
         try {
+            synchronized (TOKEN_LOCK) {
+                cachedToken = null;
+                tokenLoaded = true;
+            }
             if (appContext != null) {
                 SharedPreferences prefs = appContext.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
                 prefs.edit().remove(TOKEN_KEY).apply();
                 Log.d(TAG, "Auth token cleared");
+                LocalStore.get(appContext).clear();
+                NotificationAckQueue.clear(appContext);
             }
+            // Cached tournaments include room ids and passwords the next account must not see
+            TournamentSync.reset();
         } catch (Exception e) {
             Log.e(TAG, "Error clearing auth token", e);
         }
     }
 
+    public static void setSessionExpiredListener(SessionExpiredListener listener) {
+        sessionExpiredListener = listener;
+    }
+
+    public static void removeSessionExpiredListener(SessionExpiredListener listener) {
+        synchronized (TOKEN_LOCK) {
+            if (sessionExpiredListener == listener) {
+                sessionExpiredListener = null;
+            }
+        }
+    }
+
+    private static Request authenticate(Response response) {
+        String failedAuthorization = response.request().header("Authorization");
+
+        synchronized (TOKEN_LOCK) {
+            String currentToken = getAuthToken();
+            if (currentToken == null || currentToken.isEmpty()) {
+                // Already invalidated by a parallel call
+                return null;
+            }
+
+            String currentAuthorization = "Bearer " + currentToken;
+            if (!currentAuthorization.equals(failedAuthorization) && response.priorResponse() == null) {
+                // The token was replaced while this call was in flight, retry once with the new one
+                return response.request().newBuilder()
+                        .header("Authorization", currentAuthorization)
+                        .build();
+            }
+
+            Log.w(TAG, "Auth token rejected, invalidating session");
+            clearAuthToken();
+        }
+
+        notifySessionExpired();
+        return null;
+    }
+
+    private static void notifySessionExpired() {
+        SessionExpiredListener listener = sessionExpiredListener;
+        if (listener != null) {
+            new Handler(Looper.getMainLooper()).post(listener::onSessionExpired);
+        }
+    }
+
     public static boolean isLoggedIn() {
         try {
             String token = getAuthToken();
@@ -0,0 +1,145 @@
+package com.zahid.love.api;
+
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.Cache;
+
+public class ApiMetrics {
+
+    private static final String TAG = "ApiMetrics";
+
+    private static final Map<String, EndpointStats> endpointStats = new ConcurrentHashMap<>();
+
+    public static void recordCall(String endpoint, long durationMs, int code) {
+        EndpointStats stats = statsFor(endpoint);
+        stats.calls.incrementAndGet();
+        stats.totalMs.addAndGet(durationMs);
+        if (code >= 400 || code < 0) {
+            stats.errors.incrementAndGet();
+        }
+
+        long max;
+        do {
+            max = stats.maxMs.get();
+        } while (durationMs > max && !stats.maxMs.compareAndSet(max, durationMs));
+    }
+
+    public static void recordCacheHit(String endpoint, boolean revalidated) {
+        EndpointStats stats = statsFor(endpoint);
+        if (revalidated) {
+            stats.conditionalHits.incrementAndGet();
+        } else {
+            stats.cacheHits.incrementAndGet();
+        }
+    }
+
+    public static void recordBytes(String endpoint, long bytes) {
+        if (bytes > 0) {
+            statsFor(endpoint).bytes.addAndGet(bytes);
+        }
+    }
+
+    // A call cancelled because the screen that started it was destroyed
+    public static void recordLifecycleCancel(String endpoint) {
+        statsFor(endpoint).lifecycleCancels.incrementAndGet();
+    }
+
+    // A response that arrived after its screen was gone; bytes is -1 when the length is unknown
+    public static void recordLateCallback(String endpoint, long bytes) {
+        EndpointStats stats = statsFor(endpoint);
+        stats.lateCallbacks.incrementAndGet();
+        if (bytes > 0) {
+            stats.wastedBytes.addAndGet(bytes);
+        }
+    }
+
+    static long lifecycleCancels(String endpoint) {
+        EndpointStats stats = endpointStats.get(endpoint);
+        return stats != null ? stats.lifecycleCancels.get() : 0;
+    }
+
+    static long lateCallbacks(String endpoint) {
+        EndpointStats stats = endpointStats.get(endpoint);
+        return stats != null ? stats.lateCallbacks.get() : 0;
+    }
+
+    public static String dump() {
+        List<String> endpoints = new ArrayList<>(endpointStats.keySet());
+        Collections.sort(endpoints);
+
+        StringBuilder builder = new StringBuilder("API metrics\n");
+        for (String endpoint : endpoints) {
+            EndpointStats stats = endpointStats.get(endpoint);
+            if (stats == null) continue;
+
+            long calls = stats.calls.get();
+            long avgMs = calls > 0 ? stats.totalMs.get() / calls : 0;
+            builder.append(endpoint)
+                    .append(" calls=").append(calls)
+                    .append(" errors=").append(stats.errors.get())
+                    .append(" avgMs=").append(avgMs)
+                    .append(" maxMs=").append(stats.maxMs.get())
+                    .append(" bytes=").append(stats.bytes.get())
+                    .append(" cacheHits=").append(stats.cacheHits.get())
+                    .append(" notModified=").append(stats.conditionalHits.get())
+                    .append(" lifecycleCancels=").append(stats.lifecycleCancels.get())
+                    .append(" lateCallbacks=").append(stats.lateCallbacks.get())
+                    .append(" wastedBytes=").append(stats.wastedBytes.get())
+                    .append('\n');
+        }
+
+        builder.append("destroyed screens still retained=").append(LifecycleCalls.retainedDestroyedOwners()).append('\n');
+
+        Cache cache = ApiClient.getHttpCache();
+        if (cache != null) {
+            int requests = cache.requestCount();
+            int hits = cache.hitCount();
+            builder.append("http cache requests=").append(requests)
+                    .append(" hits=").append(hits)
+                    .append(" network=").append(cache.networkCount())
+                    .append(" hitRatio=").append(requests > 0 ? (hits * 100 / requests) : 0).append('%')
+                    .append('\n');
+        }
+        return builder.toString();
+    }
+
+    public static void logDump() {
+        Log.d(TAG, dump());
+    }
+
+    public static void reset() {
+        endpointStats.clear();
+    }
+
+    private static EndpointStats statsFor(String endpoint) {
+        EndpointStats stats = endpointStats.get(endpoint);
+        if (stats == null) {
+            EndpointStats created = new EndpointStats();
+            stats = endpointStats.putIfAbsent(endpoint, created);
+            if (stats == null) {
+                stats = created;
+            }
+        }
+        return stats;
+    }
+
+    private static class EndpointStats {
+        final AtomicLong calls = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+        final AtomicLong totalMs = new AtomicLong();
+        final AtomicLong maxMs = new AtomicLong();
+        final AtomicLong bytes = new AtomicLong();
+        final AtomicLong cacheHits = new AtomicLong();
+        final AtomicLong conditionalHits = new AtomicLong();
+        final AtomicLong lifecycleCancels = new AtomicLong();
+        final AtomicLong lateCallbacks = new AtomicLong();
+        final AtomicLong wastedBytes = new AtomicLong();
+    }
+}
@@ -1,19 +1,26 @@
 package com.zahid.love.api;
 
+import com.zahid.love.models.Tournament;
 import com.zahid.love.models.api.AuthResponse;
 import com.zahid.love.models.api.UserResponse;
 import com.zahid.love.models.api.TransactionResponse;
 import com.zahid.love.models.api.DepositResponse;
 import com.zahid.love.models.api.BannerResponse;
 import com.zahid.love.models.api.ContentResponse;
+import com.zahid.love.models.api.HighlightResponse;
+import com.zahid.love.models.api.VideoResponse;
 import com.zahid.love.models.api.LeaderboardResponse;
 import com.zahid.love.models.api.ApiResponse;
 import com.zahid.love.models.api.LoginRequest;
 import com.zahid.love.models.api.RegisterRequest;
 import com.zahid.love.models.api.WalletResponse;
+import com.zahid.love.models.api.WalletStatsResponse;
 import com.zahid.love.models.api.TournamentResponse;
+import com.zahid.love.models.api.TournamentSyncResponse;
+import com.zahid.love.models.api.UnreadCountResponse;
 import com.zahid.love.models.api.GameResponse;
 import com.zahid.love.models.api.NotificationResponse;
+import com.zahid.love.models.api.NotificationReadRequest;
 import com.zahid.love.models.api.DepositRequest;
 import com.zahid.love.models.api.WithdrawRequest;
 import com.zahid.love.models.api.JoinTournamentRequest;
@@ -62,6 +69,18 @@ public interface ApiService {
     @GET("wallet/transactions")
     Call<TransactionResponse> getTransactions(@Query("per_page") int perPage, @Query("type") String type);
 
+    @GET("wallet/transactions")
+    Call<TransactionResponse> getTransactionsSince(@Query("per_page") int perPage, @Query("type") String type,
+                                                   @Query("since_id") Long sinceId);
+
+    // Keyset pages: rows older than beforeId, or the page just newer than afterId
+    @GET("wallet/transactions")
+    Call<TransactionResponse> getTransactionsPage(@Query("per_page") int perPage, @Query("type") String type,
+                                                  @Query("before_id") Long beforeId, @Query("after_id") Long afterId);
+
+    @GET("wallet/stats")
+    Call<WalletStatsResponse> getWalletStats();
+
     @POST("wallet/deposit")
     Call<DepositResponse> initiateDeposit(@Body DepositRequest request);
 
@@ -81,6 +100,13 @@ public interface ApiService {
     @GET("tournaments")
     Call<TournamentResponse> getTournaments(@Query("mode_id") Integer modeId, @Query("game_id") Integer gameId);
 
+    // Tournaments created, changed or closed since the token; no token returns everything
+    @GET("tournaments/sync")
+    Call<TournamentSyncResponse> syncTournaments(@Query("sync_token") String syncToken);
+
+    @GET("tournaments/{id}")
+    Call<ApiResponse<Tournament>> getTournament(@Path("id") String tournamentId);
+
     @POST("tournaments/{id}/join")
     Call<ApiResponse<Object>> joinTournament(@Path("id") int tournamentId, @Body JoinTournamentRequest request);
 
@@ -92,10 +118,14 @@ public interface ApiService {
     Call<BannerResponse> getBanners();
 
     @GET("content/highlights")
-    Call<ContentResponse> getHighlights();
+    Call<HighlightResponse> getHighlights();
+
+    // Only highlights created or edited after the given updated_at
+    @GET("content/highlights")
+    Call<HighlightResponse> getHighlightsUpdatedSince(@Query("updated_since") String updatedSince);
 
     @GET("content/videos")
-    Call<ContentResponse> getVideos();
+    Call<VideoResponse> getVideos();
 
     @GET("content/settings")
     Call<ContentResponse> getSettings(@Query("key") String key);
@@ -104,14 +134,21 @@ public interface ApiService {
     @GET("notifications")
     Call<NotificationResponse> getNotifications(@Query("per_page") int perPage, @Query("priority") String priority);
 
+    @GET("notifications")
+    Call<NotificationResponse> getNotificationsPage(@Query("per_page") int perPage, @Query("priority") String priority,
+                                                    @Query("before_id") Long beforeId, @Query("after_id") Long afterId);
+
     @PUT("notifications/{id}/read")
     Call<ApiResponse<Object>> markNotificationAsRead(@Path("id") int id);
 
+    @PUT("notifications/read")
+    Call<ApiResponse<Object>> markNotificationsAsRead(@Body NotificationReadRequest request);
+
     @PUT("notifications/read-all")
     Call<ApiResponse<Object>> markAllNotificationsAsRead();
 
     @GET("notifications/unread-count")
-    Call<ApiResponse<Object>> getUnreadNotificationCount();
+    Call<UnreadCountResponse> getUnreadNotificationCount();
 
     // Leaderboard endpoints
     @GET("leaderboard")
@@ -0,0 +1,47 @@
+package com.zahid.love.api;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+public class CachePolicyInterceptor implements Interceptor {
+
+    // Freshness per content endpoint, in seconds. Anything not listed keeps the server's headers.
+    // Zero stores the response but revalidates it on every request, so polls that find nothing
+    // new are answered with a bodiless 304.
+    private static final Map<String, Integer> MAX_AGE_SECONDS = new LinkedHashMap<>();
+
+    static {
+        MAX_AGE_SECONDS.put("/api/games", 60 * 60);
+        MAX_AGE_SECONDS.put("/api/content/settings", 60 * 60);
+        MAX_AGE_SECONDS.put("/api/content/videos", 10 * 60);
+        MAX_AGE_SECONDS.put("/api/content/highlights", 5 * 60);
+        MAX_AGE_SECONDS.put("/api/content/banners", 5 * 60);
+        MAX_AGE_SECONDS.put("/api/notifications/unread-count", 0);
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Response response = chain.proceed(request);
+
+        if (!"GET".equals(request.method()) || !response.isSuccessful()) {
+            return response;
+        }
+
+        Integer maxAge = MAX_AGE_SECONDS.get(request.url().encodedPath());
+        if (maxAge == null) {
+            return response;
+        }
+
+        // ETag and Last-Modified are left untouched so stale entries revalidate with a conditional GET
+        return response.newBuilder()
+                .removeHeader("Pragma")
+                .header("Cache-Control", maxAge > 0 ? "private, max-age=" + maxAge : "private, no-cache")
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.zahid.love.api;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+// The calls one screen still has pending. Releasing them drops every callback the screen handed
+// in and cancels the ones marked cancellable; whatever arrives afterwards is counted as waste
+// instead of being delivered. Touched only on the callback thread, which is main in the app.
+final class CallTracker {
+
+    private final Set<TrackedCallback<?>> pending = new HashSet<>();
+
+    <T> Callback<T> track(Call<T> call, Callback<T> callback, boolean cancellable, String endpoint) {
+        TrackedCallback<T> tracked = new TrackedCallback<>(this, call, callback, cancellable, endpoint);
+        pending.add(tracked);
+        return tracked;
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    void releaseAll() {
+        for (TrackedCallback<?> tracked : new ArrayList<>(pending)) {
+            tracked.release();
+        }
+        pending.clear();
+    }
+
+    private static class TrackedCallback<T> implements Callback<T> {
+        private final CallTracker tracker;
+        private final Call<T> call;
+        private final boolean cancellable;
+        private final String endpoint;
+        private Callback<T> delegate;
+
+        TrackedCallback(CallTracker tracker, Call<T> call, Callback<T> delegate, boolean cancellable, String endpoint) {
+            this.tracker = tracker;
+            this.call = call;
+            this.delegate = delegate;
+            this.cancellable = cancellable;
+            this.endpoint = endpoint;
+        }
+
+        void release() {
+            // Dropping the reference is what lets the Activity go; cancelling also saves the bytes
+            delegate = null;
+            if (cancellable && !call.isCanceled()) {
+                call.cancel();
+                ApiMetrics.recordLifecycleCancel(endpoint);
+            }
+        }
+
+        @Override
+        public void onResponse(Call<T> call, Response<T> response) {
+            Callback<T> callback = delegate;
+            if (callback == null) {
+                // Downloaded and parsed for nobody
+                ApiMetrics.recordLateCallback(endpoint, response.raw().body() != null ? response.raw().body().contentLength() : -1);
+                return;
+            }
+            tracker.pending.remove(this);
+            delegate = null;
+            callback.onResponse(call, response);
+        }
+
+        @Override
+        public void onFailure(Call<T> call, Throwable t) {
+            Callback<T> callback = delegate;
+            if (callback == null) {
+                if (!call.isCanceled()) ApiMetrics.recordLateCallback(endpoint, -1);
+                return;
+            }
+            tracker.pending.remove(this);
+            delegate = null;
+            callback.onFailure(call, t);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.zahid.love.api;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.zahid.love.data.DateStamps;
+import com.zahid.love.models.Notification;
+import com.zahid.love.models.Tournament;
+import com.zahid.love.models.Transaction;
+
+import java.io.IOException;
+
+// Parses the date of every list model as it is read, on the OkHttp thread, instead of on bind
+class DateStampAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> rawType = type.getRawType();
+        if (rawType != Tournament.class && rawType != Transaction.class && rawType != Notification.class) {
+            return null;
+        }
+
+        final TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+        return new TypeAdapter<T>() {
+            @Override
+            public void write(JsonWriter out, T value) throws IOException {
+                delegate.write(out, value);
+            }
+
+            @Override
+            public T read(JsonReader in) throws IOException {
+                T value = delegate.read(in);
+                prime(value);
+                return value;
+            }
+        };
+    }
+
+    private static void prime(Object value) {
+        if (value instanceof Tournament) {
+            DateStamps.prime(value, ((Tournament) value).getStartsAt());
+        } else if (value instanceof Transaction) {
+            DateStamps.prime(value, ((Transaction) value).getCreatedAt());
+        } else if (value instanceof Notification) {
+            DateStamps.prime(value, ((Notification) value).getCreatedAt());
+        }
+    }
+}
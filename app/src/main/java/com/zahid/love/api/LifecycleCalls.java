@@ -0,0 +1,105 @@
+package com.zahid.love.api;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleOwner;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+
+// Ties Retrofit calls to a screen's lifecycle. When the owner is destroyed its pending reads are
+// cancelled and every callback it handed in is released, so the Activity can be collected at
+// once and a late response never touches a dead screen. Main thread only.
+public class LifecycleCalls {
+
+    private static final String TAG = "LifecycleCalls";
+
+    private static final Map<LifecycleOwner, Registry> registries = new WeakHashMap<>();
+    // Owners destroyed while calls were still pending; a non-null referent after GC is a leak
+    private static final List<WeakReference<LifecycleOwner>> destroyedOwners = new ArrayList<>();
+
+    // For reads: cancelled on ON_DESTROY, which also stops the download
+    public static <T> void enqueue(LifecycleOwner owner, Call<T> call, Callback<T> callback) {
+        track(owner, call, callback, true, null);
+    }
+
+    // For writes the server must still see: the call runs to completion but the result is dropped
+    public static <T> void enqueueUncancellable(LifecycleOwner owner, Call<T> call, Callback<T> callback) {
+        track(owner, call, callback, false, null);
+    }
+
+    // For SingleFlight GETs; the shared call belongs to every waiter, so it is never cancelled
+    public static <T> void enqueueShared(LifecycleOwner owner, String key, Call<T> call, Callback<T> callback) {
+        track(owner, call, callback, false, key);
+    }
+
+    // Destroyed owners that are still strongly reachable after the last GC
+    public static int retainedDestroyedOwners() {
+        int retained = 0;
+        Iterator<WeakReference<LifecycleOwner>> iterator = destroyedOwners.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().get() == null) {
+                iterator.remove();
+            } else {
+                retained++;
+            }
+        }
+        return retained;
+    }
+
+    private static <T> void track(LifecycleOwner owner, Call<T> call, Callback<T> callback, boolean cancellable, String sharedKey) {
+        String endpoint = MetricsInterceptor.endpointKey(call.request());
+        if (owner.getLifecycle().getCurrentState() == Lifecycle.State.DESTROYED) {
+            Log.w(TAG, "Not starting " + endpoint + " for a destroyed screen");
+            ApiMetrics.recordLifecycleCancel(endpoint);
+            return;
+        }
+
+        Registry registry = registries.get(owner);
+        if (registry == null) {
+            registry = new Registry(owner);
+            registries.put(owner, registry);
+            owner.getLifecycle().addObserver(registry);
+        }
+
+        Callback<T> tracked = registry.calls.track(call, callback, cancellable, endpoint);
+        if (sharedKey != null) {
+            SingleFlight.enqueue(sharedKey, call, tracked);
+        } else {
+            call.enqueue(tracked);
+        }
+    }
+
+    private static class Registry implements DefaultLifecycleObserver {
+        final CallTracker calls = new CallTracker();
+        final WeakReference<LifecycleOwner> owner;
+
+        Registry(LifecycleOwner owner) {
+            this.owner = new WeakReference<>(owner);
+        }
+
+        @Override
+        public void onDestroy(@NonNull LifecycleOwner lifecycleOwner) {
+            lifecycleOwner.getLifecycle().removeObserver(this);
+            registries.remove(lifecycleOwner);
+
+            int pending = calls.pendingCount();
+            if (pending > 0) {
+                retainedDestroyedOwners();
+                destroyedOwners.add(owner);
+                Log.d(TAG, "Releasing " + pending + " pending calls for " + lifecycleOwner.getClass().getSimpleName());
+            }
+            calls.releaseAll();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.zahid.love.api;
+
+import java.io.IOException;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+public class MetricsInterceptor implements Interceptor {
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String endpoint = endpointKey(request);
+        long startNs = System.nanoTime();
+
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            ApiMetrics.recordCall(endpoint, elapsedMs(startNs), -1);
+            throw e;
+        }
+
+        ApiMetrics.recordCall(endpoint, elapsedMs(startNs), response.code());
+        if (response.cacheResponse() != null) {
+            // Served from disk, either fresh or after a 304 revalidation
+            boolean revalidated = response.networkResponse() != null;
+            ApiMetrics.recordCacheHit(endpoint, revalidated);
+        }
+
+        ResponseBody body = response.body();
+        if (body == null) {
+            return response;
+        }
+
+        // Count bytes as the converter consumes them instead of buffering the body here
+        BufferedSource countingSource = Okio.buffer(new ForwardingSource(body.source()) {
+            private long bytesRead = 0;
+            private boolean recorded = false;
+
+            @Override
+            public long read(Buffer sink, long byteCount) throws IOException {
+                long read = super.read(sink, byteCount);
+                if (read == -1) {
+                    record();
+                } else {
+                    bytesRead += read;
+                }
+                return read;
+            }
+
+            @Override
+            public void close() throws IOException {
+                record();
+                super.close();
+            }
+
+            private void record() {
+                if (!recorded) {
+                    recorded = true;
+                    ApiMetrics.recordBytes(endpoint, bytesRead);
+                }
+            }
+        });
+
+        return response.newBuilder()
+                .body(ResponseBody.create(body.contentType(), body.contentLength(), countingSource))
+                .build();
+    }
+
+    static String endpointKey(Request request) {
+        String path = request.url().encodedPath();
+        if (path.startsWith("/api/")) {
+            path = path.substring(5);
+        }
+
+        // Collapse ids so tournaments/12 and tournaments/13 share one entry
+        StringBuilder key = new StringBuilder(request.method()).append(' ');
+        String[] segments = path.split("/");
+        for (int i = 0; i < segments.length; i++) {
+            if (i > 0) key.append('/');
+            key.append(isNumeric(segments[i]) ? "{id}" : segments[i]);
+        }
+        return key.toString();
+    }
+
+    private static boolean isNumeric(String segment) {
+        if (segment.isEmpty()) return false;
+        for (int i = 0; i < segment.length(); i++) {
+            if (!Character.isDigit(segment.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static long elapsedMs(long startNs) {
+        return (System.nanoTime() - startNs) / 1_000_000L;
+    }
+}
@@ -0,0 +1,81 @@
+package com.zahid.love.api;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+public class SingleFlight {
+
+    public static final String PROFILE = "GET auth/me";
+    public static final String MY_TOURNAMENTS = "GET tournaments/my";
+
+    private static final Map<String, List<Waiter<?>>> inFlight = new HashMap<>();
+
+    // Runs the call unless an identical GET is already in flight, in which case the caller
+    // joins it and receives the same response. The caller's own call is then never executed.
+    public static <T> void enqueue(String key, Call<T> call, Callback<T> callback) {
+        synchronized (inFlight) {
+            List<Waiter<?>> waiters = inFlight.get(key);
+            if (waiters != null) {
+                waiters.add(new Waiter<>(call, callback));
+                return;
+            }
+
+            waiters = new ArrayList<>();
+            waiters.add(new Waiter<>(call, callback));
+            inFlight.put(key, waiters);
+        }
+
+        call.enqueue(new Callback<T>() {
+            @Override
+            public void onResponse(Call<T> executedCall, Response<T> response) {
+                for (Waiter<T> waiter : complete(key)) {
+                    if (waiter.isCanceled(executedCall)) continue;
+                    waiter.callback.onResponse(waiter.call, response);
+                }
+            }
+
+            @Override
+            public void onFailure(Call<T> executedCall, Throwable t) {
+                for (Waiter<T> waiter : complete(key)) {
+                    if (waiter.isCanceled(executedCall)) continue;
+                    waiter.callback.onFailure(waiter.call, t);
+                }
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<Waiter<T>> complete(String key) {
+        synchronized (inFlight) {
+            List<Waiter<?>> waiters = inFlight.remove(key);
+            List<Waiter<T>> result = new ArrayList<>();
+            if (waiters != null) {
+                for (Waiter<?> waiter : waiters) {
+                    result.add((Waiter<T>) waiter);
+                }
+            }
+            return result;
+        }
+    }
+
+    private static class Waiter<T> {
+        final Call<T> call;
+        final Callback<T> callback;
+
+        Waiter(Call<T> call, Callback<T> callback) {
+            this.call = call;
+            this.callback = callback;
+        }
+
+        boolean isCanceled(Call<T> executedCall) {
+            // A joined caller that cancelled its own call no longer wants the shared result
+            return call != executedCall && call.isCanceled();
+        }
+    }
+}
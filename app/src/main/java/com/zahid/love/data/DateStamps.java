@@ -0,0 +1,152 @@
+package com.zahid.love.data;
+
+import com.zahid.love.utils.IsoDates;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Parsed date and display labels per model instance. Entries are primed while Gson
+// deserializes a response, so binding a row only does a map lookup. Entries are keyed on
+// the instance itself, never on equals/hashCode, and are held weakly, so they go away with
+// the rows they belong to.
+public class DateStamps {
+
+    // SimpleDateFormat is not thread-safe; stamps are built on the OkHttp threads and the main thread
+    private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT = new ThreadLocal<SimpleDateFormat>() {
+        @Override
+        protected SimpleDateFormat initialValue() {
+            return new SimpleDateFormat("MMM dd, yyyy", Locale.getDefault());
+        }
+    };
+    private static final ThreadLocal<SimpleDateFormat> DATE_TIME_FORMAT = new ThreadLocal<SimpleDateFormat>() {
+        @Override
+        protected SimpleDateFormat initialValue() {
+            return new SimpleDateFormat("MMM dd, yyyy HH:mm", Locale.getDefault());
+        }
+    };
+
+    // Guarded by DateStamps.class
+    private static final Map<Integer, List<StampRef>> stamps = new HashMap<>();
+    private static final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    public static class Stamp {
+        private final String rawDate;
+        private final long epochMs;
+        private final String dateLabel;
+        private final String dateTimeLabel;
+
+        Stamp(String rawDate) {
+            this.rawDate = rawDate;
+            this.epochMs = IsoDates.parseEpoch(rawDate);
+            if (epochMs >= 0) {
+                Date date = new Date(epochMs);
+                this.dateLabel = DATE_FORMAT.get().format(date);
+                this.dateTimeLabel = DATE_TIME_FORMAT.get().format(date);
+            } else {
+                this.dateLabel = null;
+                this.dateTimeLabel = null;
+            }
+        }
+
+        public boolean isValid() { return epochMs >= 0; }
+
+        public long getEpochMs() { return epochMs; }
+
+        public String getDateLabel() { return dateLabel; }
+
+        public String getDateTimeLabel() { return dateTimeLabel; }
+
+        boolean isFor(String rawDate) {
+            return this.rawDate == null ? rawDate == null : this.rawDate.equals(rawDate);
+        }
+    }
+
+    private static final class StampRef extends WeakReference<Object> {
+        final int hash;
+        Stamp stamp;
+
+        StampRef(Object model, int hash, Stamp stamp) {
+            super(model, collected);
+            this.hash = hash;
+            this.stamp = stamp;
+        }
+    }
+
+    public static void prime(Object model, String rawDate) {
+        if (model == null) return;
+        store(model, new Stamp(rawDate));
+    }
+
+    // Falls back to parsing now for models that did not come through Gson, or whose date was
+    // changed after they were primed
+    public static Stamp of(Object model, String rawDate) {
+        if (model == null) return new Stamp(rawDate);
+
+        Stamp stamp = find(model);
+        if (stamp == null || !stamp.isFor(rawDate)) {
+            stamp = new Stamp(rawDate);
+            store(model, stamp);
+        }
+        return stamp;
+    }
+
+    private static synchronized Stamp find(Object model) {
+        List<StampRef> bucket = stamps.get(System.identityHashCode(model));
+        if (bucket == null) return null;
+        for (StampRef ref : bucket) {
+            if (ref.get() == model) return ref.stamp;
+        }
+        return null;
+    }
+
+    private static synchronized void store(Object model, Stamp stamp) {
+        purge();
+        int hash = System.identityHashCode(model);
+        List<StampRef> bucket = stamps.get(hash);
+        if (bucket == null) {
+            bucket = new ArrayList<>(1);
+            stamps.put(hash, bucket);
+        }
+        for (StampRef ref : bucket) {
+            if (ref.get() == model) {
+                ref.stamp = stamp;
+                return;
+            }
+        }
+        bucket.add(new StampRef(model, hash, stamp));
+    }
+
+    // Drops entries whose model has been garbage collected
+    private static void purge() {
+        Reference<?> ref;
+        while ((ref = collected.poll()) != null) {
+            StampRef stale = (StampRef) ref;
+            List<StampRef> bucket = stamps.get(stale.hash);
+            if (bucket == null) continue;
+            for (Iterator<StampRef> it = bucket.iterator(); it.hasNext(); ) {
+                if (it.next() == stale) {
+                    it.remove();
+                    break;
+                }
+            }
+            if (bucket.isEmpty()) stamps.remove(stale.hash);
+        }
+    }
+
+    // Live entries, for tests
+    static synchronized int size() {
+        purge();
+        int count = 0;
+        for (List<StampRef> bucket : stamps.values()) count += bucket.size();
+        return count;
+    }
+}
@@ -0,0 +1,123 @@
+package com.zahid.love.data;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+import android.util.Log;
+
+import androidx.annotation.WorkerThread;
+
+import com.zahid.love.api.ApiClient;
+import com.zahid.love.utils.AppExecutors;
+
+import java.lang.reflect.Type;
+
+// Last known API data per screen, saved as the same JSON the API returns so screens can draw
+// from disk before the network answers. Everything is dropped on logout, so a new login to the
+// same account keeps its cache while another account never sees it.
+public class LocalStore extends SQLiteOpenHelper {
+
+    private static final String TAG = "LocalStore";
+    private static final String DB_NAME = "local_store.db";
+    private static final int DB_VERSION = 2;
+    private static final String TABLE = "entries";
+
+    public static final String PROFILE = "profile";
+    public static final String WALLET_BALANCE = "wallet_balance";
+    public static final String HOME_TOURNAMENTS = "home_tournaments";
+    public static final String JOINED_TOURNAMENTS = "joined_tournaments";
+    public static final String NOTIFICATIONS = "notifications";
+
+    private static volatile LocalStore instance;
+
+    public interface ReadCallback<T> {
+        // value is null when nothing was saved for the current session
+        void onRead(T value);
+    }
+
+    public static LocalStore get(Context context) {
+        if (instance == null) {
+            synchronized (LocalStore.class) {
+                if (instance == null) {
+                    instance = new LocalStore(context.getApplicationContext());
+                }
+            }
+        }
+        return instance;
+    }
+
+    private LocalStore(Context context) {
+        super(context, DB_NAME, null, DB_VERSION);
+    }
+
+    @Override
+    public void onCreate(SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE " + TABLE + " ("
+                + "key TEXT PRIMARY KEY, "
+                + "json TEXT NOT NULL, "
+                + "saved_at INTEGER NOT NULL)");
+    }
+
+    @Override
+    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        // Everything here can be fetched again, so start over rather than migrate
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE);
+        onCreate(db);
+    }
+
+    public <T> void read(String key, Type type, ReadCallback<T> callback) {
+        final boolean loggedIn = ApiClient.isLoggedIn();
+        AppExecutors.background().execute(() -> {
+            T value = loggedIn ? readNow(key, type) : null;
+            AppExecutors.runOnMain(() -> callback.onRead(value));
+        });
+    }
+
+    @WorkerThread
+    public <T> T readBlocking(String key, Type type) {
+        return ApiClient.isLoggedIn() ? readNow(key, type) : null;
+    }
+
+    public void write(String key, Object value) {
+        if (value == null || !ApiClient.isLoggedIn()) return;
+
+        AppExecutors.background().execute(() -> {
+            try {
+                String json = ApiClient.getGson().toJson(value);
+
+                SQLiteDatabase db = getWritableDatabase();
+                ContentValues values = new ContentValues();
+                values.put("key", key);
+                values.put("json", json);
+                values.put("saved_at", System.currentTimeMillis());
+                db.insertWithOnConflict(TABLE, null, values, SQLiteDatabase.CONFLICT_REPLACE);
+            } catch (Exception e) {
+                Log.e(TAG, "Error saving " + key, e);
+            }
+        });
+    }
+
+    // Runs on the same executor as writes, so anything queued before logout is removed too
+    public void clear() {
+        AppExecutors.background().execute(() -> {
+            try {
+                getWritableDatabase().delete(TABLE, null, null);
+            } catch (Exception e) {
+                Log.e(TAG, "Error clearing local store", e);
+            }
+        });
+    }
+
+    private <T> T readNow(String key, Type type) {
+        try (Cursor cursor = getReadableDatabase().query(TABLE, new String[]{"json"},
+                "key = ?", new String[]{key}, null, null, null)) {
+            if (!cursor.moveToFirst()) return null;
+            return ApiClient.getGson().fromJson(cursor.getString(0), type);
+        } catch (Exception e) {
+            Log.e(TAG, "Error reading " + key, e);
+            return null;
+        }
+    }
+}
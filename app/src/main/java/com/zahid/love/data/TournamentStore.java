@@ -0,0 +1,149 @@
+package com.zahid.love.data;
+
+import com.zahid.love.models.Tournament;
+import com.zahid.love.utils.AppExecutors;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class TournamentStore {
+
+    public interface CatalogueObserver {
+        // Always called on the main thread with an immutable list
+        void onCatalogueChanged(List<Tournament> catalogue);
+    }
+
+    public interface TournamentObserver {
+        // Called on the main thread whenever a newer copy of any tournament is stored
+        void onTournamentChanged(Tournament tournament);
+    }
+
+    // In-memory index of every tournament we have seen, keyed by id
+    private static final Map<String, Tournament> tournaments = new ConcurrentHashMap<>();
+
+    // Ids of the open catalogue the home screen lists; guarded by TournamentStore.class
+    private static final Set<String> catalogueIds = new LinkedHashSet<>();
+    private static volatile List<Tournament> catalogue = null;
+    private static final List<CatalogueObserver> observers = new CopyOnWriteArrayList<>();
+    private static final List<TournamentObserver> tournamentObservers = new CopyOnWriteArrayList<>();
+
+    public static Tournament get(String id) {
+        if (id == null) return null;
+        return tournaments.get(id);
+    }
+
+    public static void put(Tournament tournament) {
+        if (tournament != null && tournament.getId() != null) {
+            tournaments.put(tournament.getId(), tournament);
+            notifyTournaments(Collections.singletonList(tournament));
+            synchronized (TournamentStore.class) {
+                if (catalogueIds.contains(tournament.getId())) {
+                    publishCatalogue();
+                }
+            }
+        }
+    }
+
+    public static void putAll(List<Tournament> tournamentList) {
+        if (tournamentList == null) return;
+        for (Tournament tournament : tournamentList) {
+            if (tournament != null && tournament.getId() != null) {
+                tournaments.put(tournament.getId(), tournament);
+            }
+        }
+    }
+
+    // The merged catalogue, or null before the first sync
+    public static List<Tournament> getCatalogue() {
+        return catalogue;
+    }
+
+    // Replaces the catalogue when full, otherwise upserts changed rows and drops removed ids
+    public static synchronized List<Tournament> applyCatalogue(List<Tournament> changed, Collection<String> removedIds, boolean full) {
+        if (full) {
+            catalogueIds.clear();
+        }
+        if (changed != null) {
+            for (Tournament tournament : changed) {
+                if (tournament == null || tournament.getId() == null) continue;
+                tournaments.put(tournament.getId(), tournament);
+                catalogueIds.add(tournament.getId());
+            }
+        }
+        if (removedIds != null) {
+            catalogueIds.removeAll(removedIds);
+        }
+        if (changed != null && !changed.isEmpty()) {
+            notifyTournaments(new ArrayList<>(changed));
+        }
+        return publishCatalogue();
+    }
+
+    public static void addObserver(CatalogueObserver observer) {
+        observers.add(observer);
+    }
+
+    public static void removeObserver(CatalogueObserver observer) {
+        observers.remove(observer);
+    }
+
+    public static void addTournamentObserver(TournamentObserver observer) {
+        tournamentObservers.add(observer);
+    }
+
+    public static void removeTournamentObserver(TournamentObserver observer) {
+        tournamentObservers.remove(observer);
+    }
+
+    public static synchronized void clear() {
+        tournaments.clear();
+        catalogueIds.clear();
+        catalogue = null;
+    }
+
+    private static List<Tournament> publishCatalogue() {
+        List<Tournament> list = new ArrayList<>(catalogueIds.size());
+        for (String id : catalogueIds) {
+            Tournament tournament = tournaments.get(id);
+            if (tournament != null) list.add(tournament);
+        }
+
+        // Soonest first; rows without a parseable start time go last
+        Collections.sort(list, (a, b) -> Long.compare(startKey(a), startKey(b)));
+
+        List<Tournament> snapshot = Collections.unmodifiableList(list);
+        catalogue = snapshot;
+        AppExecutors.runOnMain(() -> {
+            // A newer snapshot may already have been published; only deliver the latest
+            if (catalogue != snapshot) return;
+            for (CatalogueObserver observer : observers) {
+                observer.onCatalogueChanged(snapshot);
+            }
+        });
+        return snapshot;
+    }
+
+    private static void notifyTournaments(List<Tournament> changed) {
+        if (tournamentObservers.isEmpty()) return;
+        AppExecutors.runOnMain(() -> {
+            for (Tournament tournament : changed) {
+                if (tournament == null) continue;
+                for (TournamentObserver observer : tournamentObservers) {
+                    observer.onTournamentChanged(tournament);
+                }
+            }
+        });
+    }
+
+    private static long startKey(Tournament tournament) {
+        long epoch = DateStamps.of(tournament, tournament.getStartsAt()).getEpochMs();
+        return epoch >= 0 ? epoch : Long.MAX_VALUE;
+    }
+}
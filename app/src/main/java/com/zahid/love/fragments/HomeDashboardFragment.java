@@ -2,6 +2,7 @@ package com.zahid.love.fragments;
 
 import android.content.Intent;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -14,6 +15,7 @@ import android.widget.Toast;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
+import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.GridLayoutManager;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
@@ -24,27 +26,21 @@ import com.zahid.love.activities.MainActivity;
 import com.zahid.love.adapters.BannerAdapter;
 import com.zahid.love.adapters.GameModeCardAdapter;
 import com.zahid.love.adapters.MatchAdapter;
-import com.zahid.love.api.ApiClient;
+import com.zahid.love.data.TournamentStore;
 import com.zahid.love.models.Banner;
 import com.zahid.love.models.GameMode;
 import com.zahid.love.models.Tournament;
-import com.zahid.love.models.Transaction;
 import com.zahid.love.models.User;
-import com.zahid.love.models.api.BannerResponse;
-import com.zahid.love.models.api.GameResponse;
-import com.zahid.love.models.api.TournamentResponse;
-import com.zahid.love.models.api.UserResponse;
-import com.zahid.love.models.api.WalletResponse;
+import com.zahid.love.repository.DashboardSnapshot;
+import com.zahid.love.utils.CountdownTicker;
 import com.zahid.love.utils.ImageUtils;
+import com.zahid.love.viewmodels.HomeDashboardViewModel;
 
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.List;
 
 import de.hdodenhof.circleimageview.CircleImageView;
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
 
 public class HomeDashboardFragment extends Fragment {
 
@@ -59,12 +55,15 @@ public class HomeDashboardFragment extends Fragment {
     private BannerAdapter bannerAdapter;
     private GameModeCardAdapter gameModeAdapter;
     private MatchAdapter matchAdapter;
+    private CountdownTicker countdownTicker;
+    private HomeDashboardViewModel viewModel;
     
     private List<Banner> bannerList;
     private List<GameMode> gameModeList;
     private List<Tournament> tournamentList;
     
     private DecimalFormat decimalFormat;
+    private boolean dashboardRendered = false;
 
     @Nullable
     @Override
@@ -74,7 +73,6 @@ public class HomeDashboardFragment extends Fragment {
 
             initializeViews(view);
             setupRecyclerViews();
-            loadData();
 
             return view;
         } catch (Exception e) {
@@ -83,6 +81,39 @@ public class HomeDashboardFragment extends Fragment {
         }
     }
 
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+        // Tick only while the view is started and drop every row when it is destroyed
+        if (countdownTicker != null) {
+            countdownTicker.bindTo(getViewLifecycleOwner());
+        }
+        TournamentStore.addObserver(catalogueObserver);
+
+        // Scoped to the fragment, which MainActivity keeps alive across tab switches
+        viewModel = new ViewModelProvider(this).get(HomeDashboardViewModel.class);
+        if (viewModel.getSnapshot().getValue() == null) {
+            showLoading(true);
+        }
+        viewModel.getSnapshot().observe(getViewLifecycleOwner(), this::renderDashboard);
+        viewModel.getWalletBalance().observe(getViewLifecycleOwner(), this::updateWalletBalance);
+    }
+
+    @Override
+    public void onDestroyView() {
+        TournamentStore.removeObserver(catalogueObserver);
+        super.onDestroyView();
+    }
+
+    // Later syncs and single-tournament refreshes update the list without reloading the dashboard
+    private final TournamentStore.CatalogueObserver catalogueObserver = catalogue -> {
+        if (!dashboardRendered || matchAdapter == null || getView() == null) return;
+        tournamentList.clear();
+        tournamentList.addAll(catalogue);
+        matchAdapter.submitList(tournamentList);
+        updateEmptyState();
+    };
+
     private void initializeViews(View view) {
         try {
             userProfileImageView = view.findViewById(R.id.userProfileImageView);
@@ -142,6 +173,8 @@ public class HomeDashboardFragment extends Fragment {
                         startActivity(intent);
                     }
                 });
+                countdownTicker = new CountdownTicker();
+                matchAdapter.setCountdownTicker(countdownTicker);
                 recentTournamentsRecyclerView.setLayoutManager(
                         new LinearLayoutManager(getContext(), LinearLayoutManager.HORIZONTAL, false)
                 );
@@ -152,195 +185,58 @@ public class HomeDashboardFragment extends Fragment {
         }
     }
 
-    private void loadData() {
-        showLoading(true);
-        loadUserProfile();
-        loadWalletBalance();
-        loadBanners();
-        loadGames();
-        loadRecentTournaments();
-    }
-
-    private void loadUserProfile() {
-        ApiClient.getApiService().getProfile().enqueue(new Callback<UserResponse>() {
-            @Override
-            public void onResponse(Call<UserResponse> call, Response<UserResponse> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    UserResponse userResponse = response.body();
-                    
-                    if (userResponse.isSuccess()) {
-                        User user = userResponse.getData();
-                        updateUserInfo(user);
-                        
-                        // Load user stats
-                        loadUserStats(user);
-                    }
-                }
-            }
-
-            @Override
-            public void onFailure(Call<UserResponse> call, Throwable t) {
-                Log.e(TAG, "Failed to load user profile", t);
-            }
-        });
-    }
-    
-    private void loadUserStats(User user) {
-        // Load joined tournaments count
-        ApiClient.getApiService().getMyTournaments().enqueue(new Callback<TournamentResponse>() {
-            @Override
-            public void onResponse(Call<TournamentResponse> call, Response<TournamentResponse> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    TournamentResponse tournamentResponse = response.body();
-                    
-                    if (tournamentResponse.isSuccess()) {
-                        int joinedCount = tournamentResponse.getData() != null ? tournamentResponse.getData().size() : 0;
-                        if (joinedMatchesTextView != null) {
-                            joinedMatchesTextView.setText(String.valueOf(joinedCount));
-                        }
-                    }
-                }
-            }
-            
-            @Override
-            public void onFailure(Call<TournamentResponse> call, Throwable t) {
-                Log.e(TAG, "Failed to load user stats", t);
-            }
-        });
-        
-        // Calculate total winnings from transactions
-        ApiClient.getApiService().getTransactions(100, "credit").enqueue(new Callback<com.zahid.love.models.api.TransactionResponse>() {
-            @Override
-            public void onResponse(Call<com.zahid.love.models.api.TransactionResponse> call, Response<com.zahid.love.models.api.TransactionResponse> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    com.zahid.love.models.api.TransactionResponse transactionResponse = response.body();
-                    
-                    if (transactionResponse.isSuccess() && transactionResponse.getData() != null) {
-                        double totalWinnings = 0.0;
-                        for (Transaction transaction : transactionResponse.getData().getTransactions()) {
-                            if (transaction.getReason() != null && transaction.getReason().toLowerCase().contains("prize")) {
-                                totalWinnings += transaction.getAmount();
-                            }
-                        }
-                        
-                        if (totalWinningsTextView != null) {
-                            totalWinningsTextView.setText("৳ " + decimalFormat.format(totalWinnings));
-                        }
-                    }
-                }
-            }
-            
-            @Override
-            public void onFailure(Call<com.zahid.love.models.api.TransactionResponse> call, Throwable t) {
-                Log.e(TAG, "Failed to load winnings", t);
-            }
-        });
-    }
+    private void renderDashboard(DashboardSnapshot snapshot) {
+        if (!isAdded() || getView() == null) return;
+        // The disk copy is only a placeholder; never let it overwrite network data
+        if (snapshot.isCached() && dashboardRendered) return;
+        long renderStartMs = SystemClock.elapsedRealtime();
 
-    private void loadWalletBalance() {
-        ApiClient.getApiService().getWallet().enqueue(new Callback<WalletResponse>() {
-            @Override
-            public void onResponse(Call<WalletResponse> call, Response<WalletResponse> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    WalletResponse walletResponse = response.body();
-                    
-                    if (walletResponse.isSuccess()) {
-                        double balance = walletResponse.getData().getBalance();
-                        updateWalletBalance(balance);
-                    }
-                }
-            }
-
-            @Override
-            public void onFailure(Call<WalletResponse> call, Throwable t) {
-                Log.e(TAG, "Failed to load wallet balance", t);
-            }
-        });
-    }
-
-    private void loadBanners() {
-        ApiClient.getApiService().getBanners().enqueue(new Callback<BannerResponse>() {
-            @Override
-            public void onResponse(Call<BannerResponse> call, Response<BannerResponse> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    BannerResponse bannerResponse = response.body();
-                    
-                    if (bannerResponse.isSuccess()) {
-                        bannerList.clear();
-                        bannerList.addAll(bannerResponse.getData());
-                        bannerAdapter.notifyDataSetChanged();
-                    }
-                }
-            }
-
-            @Override
-            public void onFailure(Call<BannerResponse> call, Throwable t) {
-                Log.e(TAG, "Failed to load banners", t);
-            }
-        });
-    }
-
-    private void loadGames() {
-        ApiClient.getApiService().getGames().enqueue(new Callback<GameResponse>() {
-            @Override
-            public void onResponse(Call<GameResponse> call, Response<GameResponse> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    GameResponse gameResponse = response.body();
-                    
-                    if (gameResponse.isSuccess()) {
-                        gameModeList.clear();
-                        
-                        // Convert games to game modes for display
-                        for (GameResponse.Game game : gameResponse.getData()) {
-                            for (GameResponse.GameMode mode : game.getModes()) {
-                                GameMode gameMode = new GameMode();
-                                gameMode.setId(String.valueOf(mode.getId()));
-                                gameMode.setTitle(game.getName() + " - " + mode.getName());
-                                gameMode.setGame(game.getName());
-                                gameMode.setMode(mode.getName());
-                                gameMode.setType(mode.getName());
-                                gameModeList.add(gameMode);
-                            }
-                        }
-                        
-                        gameModeAdapter.notifyDataSetChanged();
-                    }
-                }
-            }
-
-            @Override
-            public void onFailure(Call<GameResponse> call, Throwable t) {
-                Log.e(TAG, "Failed to load games", t);
-            }
-        });
-    }
+        if (snapshot.getUser() != null) {
+            updateUserInfo(snapshot.getUser());
+        }
+        if (snapshot.getWalletBalance() != null) {
+            updateWalletBalance(snapshot.getWalletBalance());
+        }
+        if (snapshot.getJoinedCount() != null && joinedMatchesTextView != null) {
+            joinedMatchesTextView.setText(String.valueOf(snapshot.getJoinedCount()));
+        }
+        if (snapshot.getTotalWinnings() != null && totalWinningsTextView != null) {
+            totalWinningsTextView.setText("৳ " + decimalFormat.format(snapshot.getTotalWinnings()));
+        }
 
-    private void loadRecentTournaments() {
-        ApiClient.getApiService().getTournaments(null, null).enqueue(new Callback<TournamentResponse>() {
-            @Override
-            public void onResponse(Call<TournamentResponse> call, Response<TournamentResponse> response) {
-                showLoading(false);
-                
-                if (response.isSuccessful() && response.body() != null) {
-                    TournamentResponse tournamentResponse = response.body();
-                    
-                    if (tournamentResponse.isSuccess()) {
-                        tournamentList.clear();
-                        tournamentList.addAll(tournamentResponse.getData());
-                        matchAdapter.notifyDataSetChanged();
-                        
-                        updateEmptyState();
-                    }
-                }
-            }
+        if (snapshot.getBanners() != null && bannerAdapter != null) {
+            bannerList.clear();
+            bannerList.addAll(snapshot.getBanners());
+            bannerAdapter.notifyDataSetChanged();
+        }
+        if (snapshot.getGameModes() != null && gameModeAdapter != null) {
+            gameModeList.clear();
+            gameModeList.addAll(snapshot.getGameModes());
+            gameModeAdapter.notifyDataSetChanged();
+        }
+        // A retained snapshot can be older than the catalogue the realtime channel kept current
+        List<Tournament> tournaments = snapshot.isCached() || TournamentStore.getCatalogue() == null
+                ? snapshot.getTournaments() : TournamentStore.getCatalogue();
+        if (tournaments != null && matchAdapter != null) {
+            tournamentList.clear();
+            tournamentList.addAll(tournaments);
+            matchAdapter.submitList(tournamentList);
+        }
 
-            @Override
-            public void onFailure(Call<TournamentResponse> call, Throwable t) {
+        if (snapshot.isCached()) {
+            // Keep the spinner until the network answers unless there is something to show
+            if (tournaments != null && !tournaments.isEmpty()) {
                 showLoading(false);
-                Log.e(TAG, "Failed to load tournaments", t);
                 updateEmptyState();
             }
-        });
+        } else {
+            showLoading(false);
+            updateEmptyState();
+            dashboardRendered = true;
+        }
+
+        Log.d(TAG, (snapshot.isCached() ? "Cached dashboard" : "Dashboard") + " rendered "
+                + (snapshot.getLoadTimeMs() + SystemClock.elapsedRealtime() - renderStartMs) + "ms after load start");
     }
 
     private void updateUserInfo(User user) {
@@ -361,9 +257,9 @@ public class HomeDashboardFragment extends Fragment {
         }
     }
 
-    private void updateWalletBalance(double balance) {
+    private void updateWalletBalance(Double balance) {
         try {
-            if (walletBalanceTextView != null) {
+            if (walletBalanceTextView != null && balance != null) {
                 walletBalanceTextView.setText("৳ " + decimalFormat.format(balance));
             }
         } catch (Exception e) {
@@ -400,7 +296,9 @@ public class HomeDashboardFragment extends Fragment {
     @Override
     public void onResume() {
         super.onResume();
-        // Refresh data when fragment becomes visible
-        loadWalletBalance();
+        // Hidden tabs are capped at STARTED, so this runs each time the tab is shown.
+        // Both calls are no-ops while the retained data is still fresh.
+        viewModel.refreshIfStale();
+        viewModel.refreshWalletIfStale();
     }
 }
\ No newline at end of file
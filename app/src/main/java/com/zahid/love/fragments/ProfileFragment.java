@@ -13,12 +13,13 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.appcompat.app.AlertDialog;
 import androidx.fragment.app.Fragment;
+import androidx.lifecycle.ViewModelProvider;
 
 import com.google.android.material.button.MaterialButton;
-import com.zahid.love.api.ApiClient;
 import com.zahid.love.R;
 import com.zahid.love.activities.LoginActivity;
 import com.zahid.love.activities.SettingsActivity;
+import com.zahid.love.viewmodels.ProfileViewModel;
 
 import de.hdodenhof.circleimageview.CircleImageView;
 
@@ -30,6 +31,7 @@ public class ProfileFragment extends Fragment {
     private TextView usernameTextView, emailTextView, phoneTextView;
     private MaterialButton joinedTournamentsButton, settingsButton, whatsappButton;
     private TextView appVersionTextView, aboutContentTextView;
+    private ProfileViewModel viewModel;
 
     @Nullable
     @Override
@@ -48,6 +50,19 @@ public class ProfileFragment extends Fragment {
         }
     }
 
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+        viewModel = new ViewModelProvider(this).get(ProfileViewModel.class);
+        viewModel.getUser().observe(getViewLifecycleOwner(), this::updateUserInfo);
+    }
+
+    @Override
+    public void onResume() {
+        super.onResume();
+        viewModel.refreshIfStale();
+    }
+
     private void initializeViews(View view) {
         try {
             profileImageView = view.findViewById(R.id.profileImageView);
@@ -109,8 +124,6 @@ public class ProfileFragment extends Fragment {
 
     private void setupDefaultData() {
         try {
-            loadUserProfile();
-            
             if (usernameTextView != null) {
                 usernameTextView.setText("Gamer");
             }
@@ -131,27 +144,6 @@ public class ProfileFragment extends Fragment {
         }
     }
     
-    private void loadUserProfile() {
-        ApiClient.getApiService().getProfile().enqueue(new Callback<com.zahid.love.models.api.UserResponse>() {
-            @Override
-            public void onResponse(Call<com.zahid.love.models.api.UserResponse> call, Response<com.zahid.love.models.api.UserResponse> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    com.zahid.love.models.api.UserResponse userResponse = response.body();
-                    
-                    if (userResponse.isSuccess()) {
-                        com.zahid.love.models.User user = userResponse.getData();
-                        updateUserInfo(user);
-                    }
-                }
-            }
-            
-            @Override
-            public void onFailure(Call<com.zahid.love.models.api.UserResponse> call, Throwable t) {
-                Log.e(TAG, "Failed to load user profile", t);
-            }
-        });
-    }
-    
     private void updateUserInfo(com.zahid.love.models.User user) {
         try {
             if (usernameTextView != null) {
@@ -0,0 +1,26 @@
+package com.zahid.love.models.api;
+
+import com.google.gson.annotations.SerializedName;
+import com.zahid.love.models.Highlight;
+
+import java.util.List;
+
+public class HighlightResponse {
+    @SerializedName("success")
+    private boolean success;
+
+    @SerializedName("message")
+    private String message;
+
+    @SerializedName("data")
+    private List<Highlight> data;
+
+    public boolean isSuccess() { return success; }
+    public void setSuccess(boolean success) { this.success = success; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public List<Highlight> getData() { return data; }
+    public void setData(List<Highlight> data) { this.data = data; }
+}
@@ -0,0 +1,17 @@
+package com.zahid.love.models.api;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.List;
+
+public class NotificationReadRequest {
+    @SerializedName("ids")
+    private List<Integer> ids;
+
+    public NotificationReadRequest(List<Integer> ids) {
+        this.ids = ids;
+    }
+
+    public List<Integer> getIds() { return ids; }
+    public void setIds(List<Integer> ids) { this.ids = ids; }
+}
@@ -0,0 +1,54 @@
+package com.zahid.love.models.api;
+
+import com.google.gson.annotations.SerializedName;
+import com.zahid.love.models.Tournament;
+
+import java.util.List;
+
+public class TournamentSyncResponse {
+    @SerializedName("success")
+    private boolean success;
+
+    @SerializedName("message")
+    private String message;
+
+    @SerializedName("data")
+    private SyncData data;
+
+    public boolean isSuccess() { return success; }
+    public void setSuccess(boolean success) { this.success = success; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public SyncData getData() { return data; }
+    public void setData(SyncData data) { this.data = data; }
+
+    public static class SyncData {
+        // True when the token was missing or too old and tournaments holds the whole catalogue
+        @SerializedName("full")
+        private boolean full;
+
+        @SerializedName("tournaments")
+        private List<Tournament> tournaments;
+
+        // Closed or deleted since the token was issued
+        @SerializedName("removed_ids")
+        private List<String> removedIds;
+
+        @SerializedName("sync_token")
+        private String syncToken;
+
+        public boolean isFull() { return full; }
+        public void setFull(boolean full) { this.full = full; }
+
+        public List<Tournament> getTournaments() { return tournaments; }
+        public void setTournaments(List<Tournament> tournaments) { this.tournaments = tournaments; }
+
+        public List<String> getRemovedIds() { return removedIds; }
+        public void setRemovedIds(List<String> removedIds) { this.removedIds = removedIds; }
+
+        public String getSyncToken() { return syncToken; }
+        public void setSyncToken(String syncToken) { this.syncToken = syncToken; }
+    }
+}
@@ -0,0 +1,31 @@
+package com.zahid.love.models.api;
+
+import com.google.gson.annotations.SerializedName;
+
+public class UnreadCountResponse {
+    @SerializedName("success")
+    private boolean success;
+
+    @SerializedName("message")
+    private String message;
+
+    @SerializedName("data")
+    private UnreadCount data;
+
+    public boolean isSuccess() { return success; }
+    public void setSuccess(boolean success) { this.success = success; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public UnreadCount getData() { return data; }
+    public void setData(UnreadCount data) { this.data = data; }
+
+    public static class UnreadCount {
+        @SerializedName(value = "unread_count", alternate = {"count"})
+        private int unreadCount;
+
+        public int getUnreadCount() { return unreadCount; }
+        public void setUnreadCount(int unreadCount) { this.unreadCount = unreadCount; }
+    }
+}
@@ -0,0 +1,43 @@
+package com.zahid.love.models.api;
+
+import com.google.gson.annotations.SerializedName;
+
+public class WalletStatsResponse {
+    @SerializedName("success")
+    private boolean success;
+
+    @SerializedName("message")
+    private String message;
+
+    @SerializedName("data")
+    private WalletStats data;
+
+    public boolean isSuccess() { return success; }
+    public void setSuccess(boolean success) { this.success = success; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public WalletStats getData() { return data; }
+    public void setData(WalletStats data) { this.data = data; }
+
+    public static class WalletStats {
+        @SerializedName("total_winnings")
+        private double totalWinnings;
+
+        @SerializedName("joined_count")
+        private int joinedCount;
+
+        @SerializedName("lifetime_deposits")
+        private double lifetimeDeposits;
+
+        public double getTotalWinnings() { return totalWinnings; }
+        public void setTotalWinnings(double totalWinnings) { this.totalWinnings = totalWinnings; }
+
+        public int getJoinedCount() { return joinedCount; }
+        public void setJoinedCount(int joinedCount) { this.joinedCount = joinedCount; }
+
+        public double getLifetimeDeposits() { return lifetimeDeposits; }
+        public void setLifetimeDeposits(double lifetimeDeposits) { this.lifetimeDeposits = lifetimeDeposits; }
+    }
+}
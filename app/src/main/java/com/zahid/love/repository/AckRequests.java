@@ -0,0 +1,19 @@
+package com.zahid.love.repository;
+
+// How NotificationAckQueue splits and retries a batch. Kept apart from the queue, which holds
+// a main-thread Handler, so the rules can be checked in plain JUnit.
+final class AckRequests {
+
+    private AckRequests() {
+    }
+
+    // Ids one request carries: the whole batch, or only the first on the per-id endpoint
+    static int sentCount(int batchSize, boolean perId) {
+        return perId ? Math.min(1, batchSize) : batchSize;
+    }
+
+    // 401 and 403 are handled separately; any other 4xx except timeouts and throttling is final
+    static boolean isRetryable(int code) {
+        return code < 400 || code >= 500 || code == 408 || code == 429;
+    }
+}
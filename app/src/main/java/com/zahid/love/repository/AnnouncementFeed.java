@@ -0,0 +1,131 @@
+package com.zahid.love.repository;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import com.zahid.love.api.ApiClient;
+import com.zahid.love.models.Announcement;
+import com.zahid.love.models.Highlight;
+import com.zahid.love.models.api.HighlightResponse;
+import com.zahid.love.utils.AppExecutors;
+import com.zahid.love.utils.IsoDates;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+// Highlights shown as announcements. The merged feed is kept for the lifetime of the process,
+// so reopening the screen renders at once and a refresh only asks for rows newer than the
+// newest updated_at seen. A full reload now and then drops highlights deleted on the server.
+public class AnnouncementFeed {
+
+    private static final String TAG = "AnnouncementFeed";
+    private static final long FULL_SYNC_INTERVAL_MS = 30 * 60 * 1000;
+
+    public interface Listener {
+        void onFeedUpdated(List<Announcement> announcements);
+        void onFeedError(Response<?> response, Throwable t);
+    }
+
+    // Guarded by AnnouncementFeed.class; merged on the background executor
+    private static final Map<Long, Highlight> highlights = new HashMap<>();
+    private static String newestUpdatedAt;
+    private static long lastFullSyncMs;
+
+    private static volatile List<Announcement> cached;
+
+    // The last merged feed, or null before the first successful load
+    public static List<Announcement> getCached() {
+        return cached;
+    }
+
+    public static void refresh(Listener listener) {
+        final boolean full;
+        final String since;
+        synchronized (AnnouncementFeed.class) {
+            full = cached == null || newestUpdatedAt == null
+                    || SystemClock.elapsedRealtime() - lastFullSyncMs > FULL_SYNC_INTERVAL_MS;
+            since = newestUpdatedAt;
+        }
+
+        Call<HighlightResponse> call = full
+                ? ApiClient.getApiService().getHighlights()
+                : ApiClient.getApiService().getHighlightsUpdatedSince(since);
+
+        call.enqueue(new Callback<HighlightResponse>() {
+            @Override
+            public void onResponse(Call<HighlightResponse> call, Response<HighlightResponse> response) {
+                HighlightResponse body = response.body();
+                if (!response.isSuccessful() || body == null || !body.isSuccess()) {
+                    listener.onFeedError(response, null);
+                    return;
+                }
+
+                List<Highlight> page = body.getData() != null ? body.getData() : new ArrayList<>();
+                AppExecutors.background().execute(() -> {
+                    List<Announcement> result = merge(page, full);
+                    AppExecutors.runOnMain(() -> listener.onFeedUpdated(result));
+                });
+            }
+
+            @Override
+            public void onFailure(Call<HighlightResponse> call, Throwable t) {
+                Log.e(TAG, "Failed to load highlights", t);
+                listener.onFeedError(null, t);
+            }
+        });
+    }
+
+    private static synchronized List<Announcement> merge(List<Highlight> page, boolean full) {
+        if (full) {
+            highlights.clear();
+            lastFullSyncMs = SystemClock.elapsedRealtime();
+        }
+
+        for (Highlight highlight : page) {
+            highlights.put(highlight.getId(), highlight);
+            String updatedAt = highlight.getUpdatedAt();
+            // Laravel timestamps share one format, so string order is time order
+            if (updatedAt != null && (newestUpdatedAt == null || updatedAt.compareTo(newestUpdatedAt) > 0)) {
+                newestUpdatedAt = updatedAt;
+            }
+        }
+
+        List<Highlight> sorted = new ArrayList<>(highlights.values());
+        Collections.sort(sorted, (a, b) -> compareNewestFirst(a.getUpdatedAt(), b.getUpdatedAt()));
+
+        List<Announcement> result = new ArrayList<>(sorted.size());
+        for (Highlight highlight : sorted) {
+            result.add(toAnnouncement(highlight));
+        }
+
+        List<Announcement> snapshot = Collections.unmodifiableList(result);
+        cached = snapshot;
+        return snapshot;
+    }
+
+    private static int compareNewestFirst(String a, String b) {
+        if (a == null) return b == null ? 0 : 1;
+        if (b == null) return -1;
+        return b.compareTo(a);
+    }
+
+    private static Announcement toAnnouncement(Highlight highlight) {
+        Announcement announcement = new Announcement();
+        announcement.setId(String.valueOf(highlight.getId()));
+        announcement.setTitle(highlight.getTitle());
+        announcement.setDescription(highlight.getDescription());
+        announcement.setImageUrl(highlight.getImageUrl());
+        announcement.setPriority("medium");
+
+        long createdAt = IsoDates.parseEpoch(highlight.getCreatedAt());
+        announcement.setTimestamp(createdAt >= 0 ? createdAt : System.currentTimeMillis());
+        return announcement;
+    }
+}
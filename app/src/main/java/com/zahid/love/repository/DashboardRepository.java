@@ -0,0 +1,339 @@
+package com.zahid.love.repository;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+
+import com.google.gson.reflect.TypeToken;
+import com.zahid.love.api.ApiClient;
+import com.zahid.love.api.ApiService;
+import com.zahid.love.api.SingleFlight;
+import com.zahid.love.data.LocalStore;
+import com.zahid.love.models.Banner;
+import com.zahid.love.models.GameMode;
+import com.zahid.love.models.Tournament;
+import com.zahid.love.models.Transaction;
+import com.zahid.love.models.User;
+import com.zahid.love.models.api.BannerResponse;
+import com.zahid.love.models.api.GameResponse;
+import com.zahid.love.models.api.TournamentResponse;
+import com.zahid.love.models.api.TransactionResponse;
+import com.zahid.love.models.api.UserResponse;
+import com.zahid.love.models.api.WalletResponse;
+import com.zahid.love.models.api.WalletStatsResponse;
+import com.zahid.love.utils.AppExecutors;
+import com.zahid.love.utils.MainThreadBudget;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+public class DashboardRepository {
+
+    private static final String TAG = "DashboardRepository";
+    private static final long DEADLINE_MS = 8000;
+    private static final int WINNINGS_PAGE_SIZE = 100;
+    private static final Type TOURNAMENT_LIST = new TypeToken<List<Tournament>>() {}.getType();
+
+    public interface DashboardCallback {
+        void onDashboardLoaded(DashboardSnapshot snapshot);
+    }
+
+    private interface Mapping {
+        // Background work; the returned Runnable stores the result on the main thread
+        Runnable map();
+    }
+
+    // What the last successful load saved, for drawing before the network answers
+    public static void loadCached(Context context, DashboardCallback callback) {
+        LocalStore store = LocalStore.get(context);
+        long startMs = SystemClock.elapsedRealtime();
+
+        AppExecutors.background().execute(() -> {
+            User user = store.readBlocking(LocalStore.PROFILE, User.class);
+            Double walletBalance = store.readBlocking(LocalStore.WALLET_BALANCE, Double.class);
+            List<Tournament> tournaments = store.readBlocking(LocalStore.HOME_TOURNAMENTS, TOURNAMENT_LIST);
+
+            DashboardSnapshot snapshot = new DashboardSnapshot(user, walletBalance, null, null, null, null,
+                    tournaments, false, true, SystemClock.elapsedRealtime() - startMs);
+            AppExecutors.runOnMain(() -> callback.onDashboardLoaded(snapshot));
+        });
+    }
+
+    // Fires every dashboard call in parallel and publishes one snapshot when they have all
+    // finished, or a partial one at the deadline followed by a final one when the rest arrive.
+    public static void load(Context context, DashboardCallback callback) {
+        new Loader(context, callback).start();
+    }
+
+    private static class Loader {
+        private static final int CALL_COUNT = 6;
+
+        private final Context appContext;
+        private final LocalStore store;
+        private final DashboardCallback callback;
+        private final Handler mainHandler = new Handler(Looper.getMainLooper());
+        private final long startMs = SystemClock.elapsedRealtime();
+
+        // Only touched on the main thread, where Retrofit delivers callbacks
+        private int pending = CALL_COUNT;
+        private boolean publishedPartial = false;
+
+        private User user;
+        private Double walletBalance;
+        private Integer joinedCount;
+        private Double totalWinnings;
+        private List<Banner> banners;
+        private List<GameMode> gameModes;
+        private List<Tournament> tournaments;
+
+        private final Runnable deadline = () -> {
+            if (pending > 0) {
+                Log.w(TAG, "Dashboard deadline reached with " + pending + " calls pending");
+                publishedPartial = true;
+                publish(false);
+            }
+        };
+
+        Loader(Context context, DashboardCallback callback) {
+            this.appContext = context.getApplicationContext();
+            this.store = LocalStore.get(appContext);
+            this.callback = callback;
+        }
+
+        void start() {
+            ApiService api = ApiClient.getApiService();
+            mainHandler.postDelayed(deadline, DEADLINE_MS);
+
+            SingleFlight.enqueue(SingleFlight.PROFILE, api.getProfile(), new Part<UserResponse>("profile") {
+                @Override
+                void onResult(UserResponse body) {
+                    if (body.isSuccess()) {
+                        user = body.getData();
+                        store.write(LocalStore.PROFILE, user);
+                    }
+                }
+            });
+
+            api.getWallet().enqueue(new Part<WalletResponse>("wallet") {
+                @Override
+                void onResult(WalletResponse body) {
+                    if (body.isSuccess() && body.getData() != null) {
+                        walletBalance = body.getData().getBalance();
+                        store.write(LocalStore.WALLET_BALANCE, walletBalance);
+                    }
+                }
+            });
+
+            api.getBanners().enqueue(new Part<BannerResponse>("banners") {
+                @Override
+                void onResult(BannerResponse body) {
+                    if (body.isSuccess()) {
+                        banners = body.getData();
+                    }
+                }
+            });
+
+            api.getGames().enqueue(new Part<GameResponse>("games") {
+                @Override
+                void onResult(GameResponse body) {
+                    if (body.isSuccess() && body.getData() != null) {
+                        List<GameResponse.Game> games = body.getData();
+                        inBackground(() -> {
+                            List<GameMode> result = toGameModes(games);
+                            return () -> gameModes = result;
+                        });
+                    }
+                }
+            });
+
+            TournamentSync.sync(new TournamentSync.SyncCallback() {
+                @Override
+                public void onSynced(List<Tournament> catalogue) {
+                    tournaments = catalogue;
+                    store.write(LocalStore.HOME_TOURNAMENTS, catalogue);
+                    onPartFinished();
+                }
+
+                @Override
+                public void onSyncFailed() {
+                    onPartFinished();
+                }
+            });
+
+            api.getWalletStats().enqueue(new Part<WalletStatsResponse>("wallet stats") {
+                @Override
+                void onResult(WalletStatsResponse body) {
+                    if (body.isSuccess() && body.getData() != null) {
+                        joinedCount = body.getData().getJoinedCount();
+                        totalWinnings = body.getData().getTotalWinnings();
+                    } else {
+                        loadStatsFallback();
+                    }
+                }
+
+                @Override
+                void onError() {
+                    loadStatsFallback();
+                }
+            });
+        }
+
+        // Older backends have no wallet/stats, so count joined tournaments and aggregate only
+        // the credit transactions that arrived since the last run
+        private void loadStatsFallback() {
+            ApiService api = ApiClient.getApiService();
+            pending++;
+
+            SingleFlight.enqueue(SingleFlight.MY_TOURNAMENTS, api.getMyTournaments(), new Part<TournamentResponse>("my tournaments") {
+                @Override
+                void onResult(TournamentResponse body) {
+                    if (body.isSuccess()) {
+                        joinedCount = body.getData() != null ? body.getData().size() : 0;
+                    }
+                }
+            });
+
+            // The total is kept per account, so it waits for an id from the profile call or the disk copy
+            User knownUser = user;
+            inBackground(() -> {
+                User owner = knownUser != null ? knownUser : store.readBlocking(LocalStore.PROFILE, User.class);
+                if (owner == null || owner.getId() == null) {
+                    Log.w(TAG, "No user id yet, skipping winnings");
+                    return null;
+                }
+                String userId = owner.getId();
+                long lastSeenId = WinningsAggregator.getLastSeenId(appContext, userId);
+                return () -> loadWinningsPage(userId, lastSeenId, new ArrayList<>());
+            });
+        }
+
+        // Pages through every credit after sinceId and only then counts them, so the last seen
+        // id never moves past credits that were not fetched
+        private void loadWinningsPage(String userId, long sinceId, List<Transaction> collected) {
+            pending++;
+            ApiClient.getApiService().getTransactionsSince(WINNINGS_PAGE_SIZE, "credit", sinceId).enqueue(new Part<TransactionResponse>("winnings") {
+                @Override
+                void onResult(TransactionResponse body) {
+                    if (!body.isSuccess() || body.getData() == null) return;
+
+                    List<Transaction> page = body.getData().getTransactions();
+                    if (page != null) collected.addAll(page);
+
+                    long newestId = WinningsAggregator.newestId(page, sinceId);
+                    if (page != null && page.size() >= WINNINGS_PAGE_SIZE && newestId > sinceId) {
+                        loadWinningsPage(userId, newestId, collected);
+                        return;
+                    }
+
+                    inBackground(() -> {
+                        double total = WinningsAggregator.update(appContext, userId, collected);
+                        return () -> totalWinnings = total;
+                    });
+                }
+            });
+        }
+
+        // Runs mapping off the main thread and applies its result back on it. The part stays
+        // pending until then, the same way the stats fallback extends the load.
+        private void inBackground(Mapping mapping) {
+            pending++;
+            AppExecutors.background().execute(() -> {
+                Runnable apply;
+                try {
+                    apply = mapping.map();
+                } catch (Exception e) {
+                    Log.e(TAG, "Error mapping dashboard response", e);
+                    apply = null;
+                }
+                Runnable result = apply;
+                mainHandler.post(() -> MainThreadBudget.run("Dashboard mapping", () -> {
+                    if (result != null) result.run();
+                    onPartFinished();
+                }));
+            });
+        }
+
+        private void onPartFinished() {
+            pending--;
+            if (pending > 0) return;
+
+            mainHandler.removeCallbacks(deadline);
+            publish(true);
+        }
+
+        private void publish(boolean complete) {
+            long loadTimeMs = SystemClock.elapsedRealtime() - startMs;
+            Log.d(TAG, "Dashboard snapshot ready in " + loadTimeMs + "ms" + (complete ? "" : " (partial)")
+                    + (publishedPartial && complete ? " after deadline" : ""));
+
+            DashboardSnapshot snapshot = new DashboardSnapshot(user, walletBalance, joinedCount, totalWinnings,
+                    banners, gameModes, tournaments, complete, false, loadTimeMs);
+            MainThreadBudget.run("Dashboard publish", () -> callback.onDashboardLoaded(snapshot));
+        }
+
+        private abstract class Part<T> implements Callback<T> {
+            private final String name;
+
+            Part(String name) {
+                this.name = name;
+            }
+
+            abstract void onResult(T body);
+
+            void onError() {
+            }
+
+            @Override
+            public void onResponse(Call<T> call, Response<T> response) {
+                try {
+                    if (response.isSuccessful() && response.body() != null) {
+                        onResult(response.body());
+                    } else {
+                        Log.e(TAG, "Failed to load " + name + ": " + response.code());
+                        onError();
+                    }
+                } catch (Exception e) {
+                    Log.e(TAG, "Error handling " + name, e);
+                }
+                onPartFinished();
+            }
+
+            @Override
+            public void onFailure(Call<T> call, Throwable t) {
+                Log.e(TAG, "Failed to load " + name, t);
+                onError();
+                onPartFinished();
+            }
+        }
+    }
+
+    private static List<GameMode> toGameModes(List<GameResponse.Game> games) {
+        // Convert games to game modes for display
+        int count = 0;
+        for (GameResponse.Game game : games) {
+            if (game.getModes() != null) count += game.getModes().size();
+        }
+        List<GameMode> result = new ArrayList<>(count);
+        for (GameResponse.Game game : games) {
+            if (game.getModes() == null) continue;
+            for (GameResponse.GameMode mode : game.getModes()) {
+                GameMode gameMode = new GameMode();
+                gameMode.setId(String.valueOf(mode.getId()));
+                gameMode.setTitle(game.getName() + " - " + mode.getName());
+                gameMode.setGame(game.getName());
+                gameMode.setMode(mode.getName());
+                gameMode.setType(mode.getName());
+                result.add(gameMode);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
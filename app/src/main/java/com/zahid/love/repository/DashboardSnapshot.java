@@ -0,0 +1,64 @@
+package com.zahid.love.repository;
+
+import com.zahid.love.models.Banner;
+import com.zahid.love.models.GameMode;
+import com.zahid.love.models.Tournament;
+import com.zahid.love.models.User;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class DashboardSnapshot {
+
+    private final User user;
+    private final Double walletBalance;
+    private final Integer joinedCount;
+    private final Double totalWinnings;
+    private final List<Banner> banners;
+    private final List<GameMode> gameModes;
+    private final List<Tournament> tournaments;
+    private final boolean complete;
+    private final boolean cached;
+    private final long loadTimeMs;
+
+    DashboardSnapshot(User user, Double walletBalance, Integer joinedCount, Double totalWinnings,
+                      List<Banner> banners, List<GameMode> gameModes, List<Tournament> tournaments,
+                      boolean complete, boolean cached, long loadTimeMs) {
+        this.user = user;
+        this.walletBalance = walletBalance;
+        this.joinedCount = joinedCount;
+        this.totalWinnings = totalWinnings;
+        this.banners = immutableCopy(banners);
+        this.gameModes = immutableCopy(gameModes);
+        this.tournaments = immutableCopy(tournaments);
+        this.complete = complete;
+        this.cached = cached;
+        this.loadTimeMs = loadTimeMs;
+    }
+
+    // Null means that part of the dashboard did not load
+    public User getUser() { return user; }
+    public Double getWalletBalance() { return walletBalance; }
+    public Integer getJoinedCount() { return joinedCount; }
+    public Double getTotalWinnings() { return totalWinnings; }
+    public List<Banner> getBanners() { return banners; }
+    public List<GameMode> getGameModes() { return gameModes; }
+    public List<Tournament> getTournaments() { return tournaments; }
+
+    // False when the deadline passed before every call finished
+    public boolean isComplete() { return complete; }
+    // True for the copy read back from disk before any call has returned
+    public boolean isCached() { return cached; }
+    public long getLoadTimeMs() { return loadTimeMs; }
+
+    public boolean hasEveryPart() {
+        return user != null && walletBalance != null && joinedCount != null && totalWinnings != null
+                && banners != null && gameModes != null && tournaments != null;
+    }
+
+    private static <T> List<T> immutableCopy(List<T> list) {
+        if (list == null) return null;
+        return Collections.unmodifiableList(new ArrayList<>(list));
+    }
+}
@@ -0,0 +1,291 @@
+package com.zahid.love.repository;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.lifecycle.LifecycleOwner;
+
+import com.zahid.love.api.LifecycleCalls;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+// Loads a list page by page using the id of the last row as the cursor, and keeps at most
+// maxItems rows in memory. Rows trimmed from one end are reloaded when the user scrolls back.
+public abstract class KeysetPagingSource<T, R> {
+
+    private static final String TAG = "KeysetPagingSource";
+    private static final long MIN_RETRY_MS = 2000;
+    private static final long MAX_RETRY_MS = 60 * 1000;
+
+    public interface Listener {
+        void onRefreshed();
+        void onItemsInserted(int positionStart, int itemCount);
+        void onItemsRemoved(int positionStart, int itemCount);
+        void onLoadError(boolean refresh, Response<?> response, Throwable t);
+    }
+
+    private final int pageSize;
+    private final int prefetchDistance;
+    private final int maxItems;
+    private final List<T> items = new ArrayList<>();
+
+    private Listener listener;
+    private LifecycleOwner owner;
+    private int generation = 0;
+    private boolean loadingOlder = false;
+    private boolean loadingNewer = false;
+    private boolean endReached = false;
+    private boolean headTrimmed = false;
+    private boolean refreshed = false;
+
+    // After a failed page, scrolling does not try again until retryAtMs; each failure in a row doubles the wait
+    private long retryDelayMs = MIN_RETRY_MS;
+    private long retryAtMs = 0;
+
+    protected KeysetPagingSource(int pageSize, int prefetchDistance, int maxItems) {
+        this.pageSize = pageSize;
+        this.prefetchDistance = prefetchDistance;
+        this.maxItems = Math.max(maxItems, pageSize * 2);
+    }
+
+    // beforeId pages towards older rows, afterId towards newer ones; both null loads the first page
+    protected abstract Call<R> createCall(int pageSize, Long beforeId, Long afterId);
+
+    protected abstract List<T> extractItems(R body);
+
+    protected abstract long keyOf(T item);
+
+    // Rows without a usable cursor are dropped before they reach the window, since paging from
+    // a made-up key would skip or repeat rows
+    protected boolean hasKey(T item) {
+        return true;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    // Page loads started while bound are cancelled when the owner is destroyed
+    public void bindTo(LifecycleOwner owner) {
+        this.owner = owner;
+    }
+
+    // The live window; adapters may hold on to it but only this class mutates it
+    public List<T> getItems() {
+        return items;
+    }
+
+    // Fills the window with rows saved by an earlier session until the first refresh replaces
+    // them; returns false once real data has arrived
+    public boolean seed(List<T> saved) {
+        if (refreshed || saved == null || saved.isEmpty()) return false;
+
+        items.clear();
+        items.addAll(keyed(saved));
+        return true;
+    }
+
+    public void refresh() {
+        final int requestGeneration = ++generation;
+        loadingOlder = true;
+        loadingNewer = false;
+        resetBackoff();
+
+        enqueue(createCall(pageSize, null, null), new Callback<R>() {
+            @Override
+            public void onResponse(Call<R> call, Response<R> response) {
+                if (requestGeneration != generation) return;
+                loadingOlder = false;
+
+                List<T> page = response.isSuccessful() && response.body() != null ? extractItems(response.body()) : null;
+                if (page == null) {
+                    notifyError(true, response, null);
+                    return;
+                }
+
+                items.clear();
+                items.addAll(keyed(page));
+                endReached = page.size() < pageSize;
+                headTrimmed = false;
+                refreshed = true;
+                if (listener != null) listener.onRefreshed();
+            }
+
+            @Override
+            public void onFailure(Call<R> call, Throwable t) {
+                if (requestGeneration != generation) return;
+                loadingOlder = false;
+                notifyError(true, null, t);
+            }
+        });
+    }
+
+    // Puts a row that was pushed to the client at the head of the window. Returns false when
+    // the head is not loaded, since the row will arrive with the next newer page anyway.
+    public boolean insertNewest(T item) {
+        if (headTrimmed || item == null || !hasKey(item)) return false;
+
+        long key = keyOf(item);
+        for (T existing : items) {
+            if (keyOf(existing) == key) return false;
+        }
+
+        items.add(0, item);
+        if (listener != null) listener.onItemsInserted(0, 1);
+
+        if (items.size() > maxItems) {
+            int last = items.size() - 1;
+            items.remove(last);
+            endReached = false;
+            if (listener != null) listener.onItemsRemoved(last, 1);
+        }
+        return true;
+    }
+
+    public void onVisibleRangeChanged(int firstVisible, int lastVisible) {
+        if (lastVisible >= 0 && lastVisible >= items.size() - 1 - prefetchDistance) {
+            loadOlder();
+        }
+        if (firstVisible >= 0 && firstVisible <= prefetchDistance) {
+            loadNewer();
+        }
+    }
+
+    private void loadOlder() {
+        if (loadingOlder || endReached || items.isEmpty() || isBackingOff()) return;
+        loadingOlder = true;
+        final int requestGeneration = generation;
+
+        enqueue(createCall(pageSize, keyOf(items.get(items.size() - 1)), null), new Callback<R>() {
+            @Override
+            public void onResponse(Call<R> call, Response<R> response) {
+                if (requestGeneration != generation) return;
+                loadingOlder = false;
+
+                List<T> page = response.isSuccessful() && response.body() != null ? extractItems(response.body()) : null;
+                if (page == null) {
+                    notifyError(false, response, null);
+                    return;
+                }
+
+                List<T> rows = keyed(page);
+                if (rows.isEmpty() && !page.isEmpty()) {
+                    // Nothing to take the next cursor from; asking again would return the same page
+                    notifyError(false, response, null);
+                    return;
+                }
+
+                resetBackoff();
+                endReached = page.size() < pageSize;
+                int start = items.size();
+                items.addAll(rows);
+                if (listener != null && !rows.isEmpty()) listener.onItemsInserted(start, rows.size());
+
+                int overflow = items.size() - maxItems;
+                if (overflow > 0) {
+                    items.subList(0, overflow).clear();
+                    headTrimmed = true;
+                    if (listener != null) listener.onItemsRemoved(0, overflow);
+                }
+            }
+
+            @Override
+            public void onFailure(Call<R> call, Throwable t) {
+                if (requestGeneration != generation) return;
+                loadingOlder = false;
+                notifyError(false, null, t);
+            }
+        });
+    }
+
+    private void loadNewer() {
+        if (loadingNewer || !headTrimmed || items.isEmpty() || isBackingOff()) return;
+        loadingNewer = true;
+        final int requestGeneration = generation;
+
+        enqueue(createCall(pageSize, null, keyOf(items.get(0))), new Callback<R>() {
+            @Override
+            public void onResponse(Call<R> call, Response<R> response) {
+                if (requestGeneration != generation) return;
+                loadingNewer = false;
+
+                List<T> page = response.isSuccessful() && response.body() != null ? extractItems(response.body()) : null;
+                if (page == null) {
+                    notifyError(false, response, null);
+                    return;
+                }
+
+                List<T> rows = keyed(page);
+                if (rows.isEmpty() && !page.isEmpty()) {
+                    notifyError(false, response, null);
+                    return;
+                }
+
+                resetBackoff();
+                headTrimmed = page.size() >= pageSize;
+                items.addAll(0, rows);
+                if (listener != null && !rows.isEmpty()) listener.onItemsInserted(0, rows.size());
+
+                int overflow = items.size() - maxItems;
+                if (overflow > 0) {
+                    int start = items.size() - overflow;
+                    items.subList(start, items.size()).clear();
+                    endReached = false;
+                    if (listener != null) listener.onItemsRemoved(start, overflow);
+                }
+            }
+
+            @Override
+            public void onFailure(Call<R> call, Throwable t) {
+                if (requestGeneration != generation) return;
+                loadingNewer = false;
+                notifyError(false, null, t);
+            }
+        });
+    }
+
+    private List<T> keyed(List<T> page) {
+        List<T> kept = null;
+        for (int i = 0; i < page.size(); i++) {
+            T item = page.get(i);
+            if (!hasKey(item)) {
+                if (kept == null) kept = new ArrayList<>(page.subList(0, i));
+                Log.w(TAG, "Dropping a row without a usable id");
+            } else if (kept != null) {
+                kept.add(item);
+            }
+        }
+        return kept != null ? kept : page;
+    }
+
+    private void notifyError(boolean refresh, Response<?> response, Throwable t) {
+        Log.e(TAG, "Failed to load page", t);
+        if (!refresh) {
+            retryAtMs = SystemClock.elapsedRealtime() + retryDelayMs;
+            retryDelayMs = Math.min(retryDelayMs * 2, MAX_RETRY_MS);
+        }
+        if (listener != null) listener.onLoadError(refresh, response, t);
+    }
+
+    private boolean isBackingOff() {
+        return SystemClock.elapsedRealtime() < retryAtMs;
+    }
+
+    private void resetBackoff() {
+        retryDelayMs = MIN_RETRY_MS;
+        retryAtMs = 0;
+    }
+
+    private void enqueue(Call<R> call, Callback<R> callback) {
+        if (owner != null) {
+            LifecycleCalls.enqueue(owner, call, callback);
+        } else {
+            call.enqueue(callback);
+        }
+    }
+}
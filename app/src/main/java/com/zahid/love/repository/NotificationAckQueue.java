@@ -0,0 +1,193 @@
+package com.zahid.love.repository;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.zahid.love.api.ApiClient;
+import com.zahid.love.models.api.ApiResponse;
+import com.zahid.love.models.api.NotificationReadRequest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+// Collects read acknowledgements for a short window and sends them as one batch. Pending ids
+// are saved to prefs as soon as they are queued, so a tap is never lost to process death,
+// and failed batches are retried with exponential backoff. Main thread only.
+public class NotificationAckQueue {
+
+    private static final String TAG = "NotificationAckQueue";
+    private static final String PREFS_NAME = "notification_acks";
+    private static final String PENDING_KEY = "pending_ids";
+    private static final long BATCH_WINDOW_MS = 1500;
+    private static final long MIN_BACKOFF_MS = 5000;
+    private static final long MAX_BACKOFF_MS = 5 * 60 * 1000;
+
+    private static final Handler handler = new Handler(Looper.getMainLooper());
+    private static final Set<Integer> pending = new HashSet<>();
+    private static final Set<Integer> inFlight = new HashSet<>();
+
+    private static Context appContext;
+    private static boolean loaded = false;
+    private static boolean flushScheduled = false;
+    private static boolean batchUnsupported = false;
+    private static long backoffMs = MIN_BACKOFF_MS;
+    // Bumped on logout so a batch sent for the previous account is not queued again
+    private static int session = 0;
+
+    private static final Runnable flushRunnable = () -> {
+        flushScheduled = false;
+        flush();
+    };
+
+    // Sends whatever an earlier process left behind
+    public static void resume(Context context) {
+        load(context);
+        if (!pending.isEmpty()) {
+            schedule(0);
+        }
+    }
+
+    public static void acknowledge(Context context, int notificationId) {
+        load(context);
+        if (pending.contains(notificationId) || inFlight.contains(notificationId)) return;
+
+        pending.add(notificationId);
+        save();
+        schedule(BATCH_WINDOW_MS);
+    }
+
+    // Forgets every queued id, in memory and on disk, so the next account never sends them.
+    // Safe to call from any thread.
+    public static void clear(Context context) {
+        Context app = context.getApplicationContext();
+        handler.post(() -> {
+            session++;
+            handler.removeCallbacks(flushRunnable);
+            flushScheduled = false;
+            pending.clear();
+            inFlight.clear();
+            backoffMs = MIN_BACKOFF_MS;
+            app.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE).edit().clear().apply();
+        });
+    }
+
+    // True while the server may still report this notification as unread
+    public static boolean isPending(int notificationId) {
+        return pending.contains(notificationId) || inFlight.contains(notificationId);
+    }
+
+    private static void load(Context context) {
+        if (loaded) return;
+        appContext = context.getApplicationContext();
+
+        Set<String> saved = prefs().getStringSet(PENDING_KEY, new HashSet<>());
+        for (String id : saved) {
+            try {
+                pending.add(Integer.parseInt(id));
+            } catch (NumberFormatException e) {
+                Log.w(TAG, "Dropping malformed pending ack: " + id);
+            }
+        }
+        loaded = true;
+    }
+
+    private static void schedule(long delayMs) {
+        if (flushScheduled || !inFlight.isEmpty()) return;
+        flushScheduled = true;
+        handler.postDelayed(flushRunnable, delayMs);
+    }
+
+    private static void flush() {
+        if (pending.isEmpty() || !inFlight.isEmpty()) return;
+
+        final List<Integer> batch = new ArrayList<>(pending);
+        final int sentIn = session;
+        inFlight.addAll(batch);
+        pending.clear();
+
+        Call<ApiResponse<Object>> call = batchUnsupported
+                ? ApiClient.getApiService().markNotificationAsRead(batch.get(0))
+                : ApiClient.getApiService().markNotificationsAsRead(new NotificationReadRequest(batch));
+
+        call.enqueue(new Callback<ApiResponse<Object>>() {
+            @Override
+            public void onResponse(Call<ApiResponse<Object>> call, Response<ApiResponse<Object>> response) {
+                if (sentIn != session) return;
+
+                if (!batchUnsupported && (response.code() == 404 || response.code() == 405)) {
+                    // Older backends only know the per-id endpoint; send one id per flush from now on
+                    Log.w(TAG, "notifications/read not available, acknowledging one at a time");
+                    batchUnsupported = true;
+                    retry(batch, 0);
+                    return;
+                }
+
+                List<Integer> sent = batch.subList(0, AckRequests.sentCount(batch.size(), batchUnsupported));
+                List<Integer> rest = new ArrayList<>(batch.subList(sent.size(), batch.size()));
+
+                if (response.isSuccessful()) {
+                    inFlight.clear();
+                    pending.addAll(rest);
+                    save();
+                    backoffMs = MIN_BACKOFF_MS;
+                    if (!pending.isEmpty()) schedule(0);
+                } else if (response.code() == 401 || response.code() == 403) {
+                    // The session is gone; keep everything for resume(). Logging out clears it instead.
+                    Log.w(TAG, "Holding " + batch.size() + " acks until the next session");
+                    inFlight.clear();
+                    pending.addAll(batch);
+                    save();
+                } else if (!AckRequests.isRetryable(response.code())) {
+                    // The server will never accept these ids; retrying only wastes requests
+                    Log.e(TAG, "Dropping " + sent.size() + " acks rejected with " + response.code());
+                    inFlight.clear();
+                    pending.addAll(rest);
+                    save();
+                    if (!pending.isEmpty()) schedule(BATCH_WINDOW_MS);
+                } else {
+                    retry(batch, nextBackoff());
+                }
+            }
+
+            @Override
+            public void onFailure(Call<ApiResponse<Object>> call, Throwable t) {
+                if (sentIn != session) return;
+                Log.e(TAG, "Failed to send " + batch.size() + " acks", t);
+                retry(batch, nextBackoff());
+            }
+        });
+    }
+
+    private static void retry(List<Integer> batch, long delayMs) {
+        inFlight.clear();
+        pending.addAll(batch);
+        save();
+        schedule(delayMs);
+    }
+
+    private static long nextBackoff() {
+        long delay = backoffMs;
+        backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+        return delay;
+    }
+
+    private static void save() {
+        Set<String> ids = new HashSet<>();
+        for (Integer id : pending) ids.add(String.valueOf(id));
+        for (Integer id : inFlight) ids.add(String.valueOf(id));
+        prefs().edit().putStringSet(PENDING_KEY, ids).apply();
+    }
+
+    private static SharedPreferences prefs() {
+        return appContext.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+    }
+}
@@ -0,0 +1,45 @@
+package com.zahid.love.repository;
+
+import com.zahid.love.api.ApiClient;
+import com.zahid.love.models.Notification;
+import com.zahid.love.models.api.NotificationResponse;
+
+import java.util.List;
+
+import retrofit2.Call;
+
+public class NotificationPagingSource extends KeysetPagingSource<Notification, NotificationResponse> {
+
+    private final String priority;
+
+    public NotificationPagingSource(String priority) {
+        super(20, 5, 200);
+        this.priority = priority;
+    }
+
+    @Override
+    protected Call<NotificationResponse> createCall(int pageSize, Long beforeId, Long afterId) {
+        return ApiClient.getApiService().getNotificationsPage(pageSize, priority, beforeId, afterId);
+    }
+
+    @Override
+    protected List<Notification> extractItems(NotificationResponse body) {
+        if (!body.isSuccess() || body.getData() == null) return null;
+
+        List<Notification> notifications = body.getData().getNotifications();
+        if (notifications != null) {
+            // Taps the server has not heard about yet must not flip back to unread
+            for (Notification notification : notifications) {
+                if (NotificationAckQueue.isPending(notification.getIdInt())) {
+                    notification.setRead(true);
+                }
+            }
+        }
+        return notifications;
+    }
+
+    @Override
+    protected long keyOf(Notification item) {
+        return item.getIdInt();
+    }
+}
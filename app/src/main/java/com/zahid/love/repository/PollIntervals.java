@@ -0,0 +1,42 @@
+package com.zahid.love.repository;
+
+// Unread count polling intervals, without the Handler and LiveData UnreadCountService drives
+// them with, so they can be checked in plain JUnit
+final class PollIntervals {
+
+    static final long BASE_INTERVAL_MS = 60 * 1000;
+    static final long MATCH_INTERVAL_MS = 15 * 1000;
+    static final long MAX_INTERVAL_MS = 5 * 60 * 1000;
+    static final long MATCH_WINDOW_MS = 15 * 60 * 1000;
+
+    private PollIntervals() {
+    }
+
+    // A changed count means activity, so poll at the base rate again; otherwise stretch
+    static long nextIdle(long idleMs, boolean changed) {
+        return changed ? BASE_INTERVAL_MS : backoff(idleMs);
+    }
+
+    static long backoff(long idleMs) {
+        return Math.min(idleMs * 2, MAX_INTERVAL_MS);
+    }
+
+    static long next(long idleMs, boolean matchStartingSoon) {
+        return matchStartingSoon ? MATCH_INTERVAL_MS : idleMs;
+    }
+
+    // startEpochs is in catalogue order: soonest first, negative for rows without a start time
+    static boolean isMatchStartingSoon(long[] startEpochs, long now) {
+        for (long startsAt : startEpochs) {
+            // The first future match decides
+            if (startsAt > now) {
+                return startsAt - now <= MATCH_WINDOW_MS;
+            }
+            // Matches that started a moment ago still send room and result updates
+            if (startsAt >= 0 && now - startsAt <= MATCH_WINDOW_MS) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
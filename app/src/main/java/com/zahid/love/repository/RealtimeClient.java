@@ -0,0 +1,217 @@
+package com.zahid.love.repository;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.LifecycleOwner;
+
+import com.zahid.love.api.ApiClient;
+import com.zahid.love.models.Notification;
+import com.zahid.love.models.Tournament;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+
+// Server push for tournament status, room details, participant counts and new notifications.
+// The socket stays open while any bound screen is started, plus a short grace period so moving
+// between screens does not reconnect. Tournament events are merged into TournamentStore on the
+// background executor, whose observers update the lists and detail screens; all state here is
+// touched on the main thread only.
+public class RealtimeClient {
+
+    private static final String TAG = "RealtimeClient";
+    private static final String SOCKET_URL = "wss://api.esportsekattor.com/realtime";
+    private static final long DISCONNECT_GRACE_MS = 5000;
+    private static final long MIN_RECONNECT_MS = 2000;
+    private static final long MAX_RECONNECT_MS = 60 * 1000;
+
+    public interface NotificationListener {
+        void onNotificationReceived(Notification notification);
+    }
+
+    private static final Handler handler = new Handler(Looper.getMainLooper());
+    private static final List<NotificationListener> notificationListeners = new CopyOnWriteArrayList<>();
+
+    private static OkHttpClient socketClient;
+    private static WebSocket socket;
+    private static int startedOwners = 0;
+    private static boolean hasConnected = false;
+    private static long reconnectDelayMs = MIN_RECONNECT_MS;
+
+    private static final Runnable disconnectRunnable = RealtimeClient::disconnect;
+    private static final Runnable reconnectRunnable = RealtimeClient::connect;
+
+    private static final RealtimeProtocol.EventSink eventSink = new RealtimeProtocol.EventSink() {
+        @Override
+        public void onTournamentCreated(Tournament tournament) {
+            TournamentSync.applyPushed(Collections.singletonList(tournament), null);
+        }
+
+        @Override
+        public void onTournamentUpdated(Tournament tournament) {
+            TournamentSync.put(tournament);
+        }
+
+        @Override
+        public void onTournamentClosed(String id) {
+            TournamentSync.applyPushed(null, Collections.singletonList(id));
+        }
+
+        @Override
+        public void onNotificationCreated(Notification notification) {
+            handler.post(() -> {
+                for (NotificationListener listener : notificationListeners) {
+                    listener.onNotificationReceived(notification);
+                }
+            });
+        }
+    };
+
+    public static void bindTo(LifecycleOwner owner) {
+        owner.getLifecycle().addObserver(new DefaultLifecycleObserver() {
+            @Override
+            public void onStart(@NonNull LifecycleOwner owner) {
+                acquire();
+            }
+
+            @Override
+            public void onStop(@NonNull LifecycleOwner owner) {
+                release();
+            }
+
+            @Override
+            public void onDestroy(@NonNull LifecycleOwner owner) {
+                owner.getLifecycle().removeObserver(this);
+            }
+        });
+    }
+
+    public static void addNotificationListener(NotificationListener listener) {
+        notificationListeners.add(listener);
+    }
+
+    public static void removeNotificationListener(NotificationListener listener) {
+        notificationListeners.remove(listener);
+    }
+
+    private static void acquire() {
+        startedOwners++;
+        handler.removeCallbacks(disconnectRunnable);
+        connect();
+    }
+
+    private static void release() {
+        startedOwners = Math.max(0, startedOwners - 1);
+        if (startedOwners == 0) {
+            handler.postDelayed(disconnectRunnable, DISCONNECT_GRACE_MS);
+        }
+    }
+
+    private static void connect() {
+        handler.removeCallbacks(reconnectRunnable);
+        if (socket != null || startedOwners == 0 || !ApiClient.isLoggedIn()) return;
+
+        if (socketClient == null) {
+            socketClient = RealtimeProtocol.socketClient(ApiClient.getHttpClient());
+        }
+
+        Request request = new Request.Builder().url(SOCKET_URL).build();
+        socket = socketClient.newWebSocket(request, new SocketListener());
+    }
+
+    private static void disconnect() {
+        handler.removeCallbacks(reconnectRunnable);
+        if (socket != null) {
+            socket.close(1000, null);
+            socket = null;
+        }
+    }
+
+    private static void scheduleReconnect() {
+        if (startedOwners == 0) return;
+        handler.removeCallbacks(reconnectRunnable);
+        handler.postDelayed(reconnectRunnable, reconnectDelayMs);
+        reconnectDelayMs = Math.min(reconnectDelayMs * 2, MAX_RECONNECT_MS);
+    }
+
+    private static class SocketListener extends WebSocketListener {
+        @Override
+        public void onOpen(WebSocket webSocket, Response response) {
+            handler.post(() -> {
+                if (webSocket != socket) return;
+                Log.d(TAG, "Realtime channel open");
+                reconnectDelayMs = MIN_RECONNECT_MS;
+
+                // Events sent while we were away are gone; a delta sync picks up the difference
+                if (hasConnected) {
+                    TournamentSync.sync(new TournamentSync.SyncCallback() {
+                        @Override
+                        public void onSynced(List<Tournament> catalogue) {
+                            // Catalogue observers already received the merged list
+                        }
+
+                        @Override
+                        public void onSyncFailed() {
+                            // The next dashboard load syncs again
+                        }
+                    });
+                }
+                hasConnected = true;
+            });
+        }
+
+        @Override
+        public void onMessage(WebSocket webSocket, String text) {
+            // Parsed here on the socket's reader thread; store merges go to the background executor
+            try {
+                if (!RealtimeProtocol.dispatch(text, ApiClient.getGson(), eventSink)) {
+                    Log.d(TAG, "Ignoring unknown realtime event");
+                }
+            } catch (Exception e) {
+                Log.e(TAG, "Error handling realtime event", e);
+            }
+        }
+
+        @Override
+        public void onClosing(WebSocket webSocket, int code, String reason) {
+            webSocket.close(1000, null);
+        }
+
+        @Override
+        public void onClosed(WebSocket webSocket, int code, String reason) {
+            handler.post(() -> {
+                if (webSocket != socket) return;
+                socket = null;
+                if (RealtimeProtocol.shouldReconnect(code)) {
+                    scheduleReconnect();
+                } else {
+                    Log.w(TAG, "Realtime channel closed by the server: " + code + " " + reason);
+                }
+            });
+        }
+
+        @Override
+        public void onFailure(WebSocket webSocket, Throwable t, Response response) {
+            Log.w(TAG, "Realtime channel failed" + (response != null ? ": " + response.code() : ""), t);
+            handler.post(() -> {
+                if (webSocket != socket) return;
+                socket = null;
+                // A rejected handshake waits for the next screen start instead of retrying forever;
+                // the API calls on that screen decide whether the session is still valid
+                if (response == null || RealtimeProtocol.shouldReconnect(response.code())) {
+                    scheduleReconnect();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.zahid.love.repository;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.zahid.love.models.Notification;
+import com.zahid.love.models.Tournament;
+
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Authenticator;
+import okhttp3.OkHttpClient;
+
+// What the realtime socket speaks and how its client is set up, kept apart from RealtimeClient's
+// main-thread state so it can be checked against a mock server in plain JUnit
+final class RealtimeProtocol {
+
+    interface EventSink {
+        void onTournamentCreated(Tournament tournament);
+        void onTournamentUpdated(Tournament tournament);
+        void onTournamentClosed(String id);
+        void onNotificationCreated(Notification notification);
+    }
+
+    private RealtimeProtocol() {
+    }
+
+    // Shares the API client's pool and auth header, but not its authenticator: a rejected
+    // handshake must not end the session. Pings keep NAT mappings alive.
+    static OkHttpClient socketClient(OkHttpClient apiClient) {
+        return apiClient.newBuilder()
+                .authenticator(Authenticator.NONE)
+                .pingInterval(30, TimeUnit.SECONDS)
+                .build();
+    }
+
+    // code is the handshake status or the close code; a rejected token or a policy close will
+    // be rejected again, so backing off and retrying only wastes battery
+    static boolean shouldReconnect(int code) {
+        return code != 401 && code != 403 && code != 1008;
+    }
+
+    // Returns false for event types this client does not know
+    static boolean dispatch(String text, Gson gson, EventSink sink) {
+        JsonObject event = new JsonParser().parse(text).getAsJsonObject();
+        String type = event.has("type") ? event.get("type").getAsString() : "";
+        JsonElement data = event.get("data");
+        if (data == null || data.isJsonNull()) return true;
+
+        switch (type) {
+            case "tournament.created":
+                sink.onTournamentCreated(gson.fromJson(data, Tournament.class));
+                return true;
+            case "tournament.updated":
+                sink.onTournamentUpdated(gson.fromJson(data, Tournament.class));
+                return true;
+            case "tournament.closed":
+                sink.onTournamentClosed(data.getAsJsonObject().get("id").getAsString());
+                return true;
+            case "notification.created":
+                sink.onNotificationCreated(gson.fromJson(data, Notification.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+}
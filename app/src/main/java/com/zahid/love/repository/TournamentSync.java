@@ -0,0 +1,148 @@
+package com.zahid.love.repository;
+
+import android.util.Log;
+
+import com.zahid.love.api.ApiClient;
+import com.zahid.love.data.TournamentStore;
+import com.zahid.love.models.Tournament;
+import com.zahid.love.models.api.TournamentResponse;
+import com.zahid.love.models.api.TournamentSyncResponse;
+import com.zahid.love.utils.AppExecutors;
+import com.zahid.love.utils.MainThreadBudget;
+
+import java.util.Collection;
+import java.util.List;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+// Keeps the tournament catalogue in TournamentStore current by asking only for what changed
+// since the last sync token. Backends without tournaments/sync get the full list instead.
+public class TournamentSync {
+
+    private static final String TAG = "TournamentSync";
+
+    public interface SyncCallback {
+        void onSynced(List<Tournament> catalogue);
+        void onSyncFailed();
+    }
+
+    // Main thread only, like the Retrofit callbacks that update them
+    private static String syncToken;
+    private static boolean syncUnsupported = false;
+    // Bumped on logout so a sync started for the previous account is not applied
+    private static int session = 0;
+
+    public static void sync(SyncCallback callback) {
+        if (syncUnsupported) {
+            loadFull(callback);
+            return;
+        }
+
+        final int startedIn = session;
+        ApiClient.getApiService().syncTournaments(syncToken).enqueue(new Callback<TournamentSyncResponse>() {
+            @Override
+            public void onResponse(Call<TournamentSyncResponse> call, Response<TournamentSyncResponse> response) {
+                if (startedIn != session) {
+                    callback.onSyncFailed();
+                    return;
+                }
+
+                if (response.code() == 404) {
+                    Log.w(TAG, "tournaments/sync not available, using the full list");
+                    syncUnsupported = true;
+                    loadFull(callback);
+                    return;
+                }
+
+                TournamentSyncResponse body = response.body();
+                if (!response.isSuccessful() || body == null || !body.isSuccess() || body.getData() == null) {
+                    Log.e(TAG, "Failed to sync tournaments: " + response.code());
+                    callback.onSyncFailed();
+                    return;
+                }
+
+                TournamentSyncResponse.SyncData data = body.getData();
+                // Without a token to start from, anything short of the full list would leave gaps
+                boolean full = data.isFull() || syncToken == null;
+                applyInBackground(data.getTournaments(), data.getRemovedIds(), full, callback, () -> {
+                    if (startedIn != session) return;
+                    syncToken = data.getSyncToken();
+                    int changed = data.getTournaments() != null ? data.getTournaments().size() : 0;
+                    int removed = data.getRemovedIds() != null ? data.getRemovedIds().size() : 0;
+                    Log.d(TAG, (full ? "Full" : "Delta") + " sync: " + changed + " changed, " + removed + " removed");
+                });
+            }
+
+            @Override
+            public void onFailure(Call<TournamentSyncResponse> call, Throwable t) {
+                Log.e(TAG, "Failed to sync tournaments", t);
+                callback.onSyncFailed();
+            }
+        });
+    }
+
+    // Forgets the sync position and the cached catalogue so the next account starts from a full list
+    public static void reset() {
+        AppExecutors.runOnMain(() -> {
+            session++;
+            syncToken = null;
+            // Queued behind any merge already running so that merge cannot repopulate the store
+            AppExecutors.background().execute(TournamentStore::clear);
+        });
+    }
+
+    private static void loadFull(SyncCallback callback) {
+        final int startedIn = session;
+        ApiClient.getApiService().getTournaments(null, null).enqueue(new Callback<TournamentResponse>() {
+            @Override
+            public void onResponse(Call<TournamentResponse> call, Response<TournamentResponse> response) {
+                if (startedIn != session) {
+                    callback.onSyncFailed();
+                    return;
+                }
+
+                TournamentResponse body = response.body();
+                if (!response.isSuccessful() || body == null || !body.isSuccess()) {
+                    Log.e(TAG, "Failed to load tournaments: " + response.code());
+                    callback.onSyncFailed();
+                    return;
+                }
+
+                applyInBackground(body.getData(), null, true, callback, null);
+            }
+
+            @Override
+            public void onFailure(Call<TournamentResponse> call, Throwable t) {
+                Log.e(TAG, "Failed to load tournaments", t);
+                callback.onSyncFailed();
+            }
+        });
+    }
+
+    // Merging, stamping start times and sorting the catalogue scales with its size, so it runs
+    // on the background executor; the store publishes an immutable snapshot either way
+    private static void applyInBackground(List<Tournament> changed, Collection<String> removedIds, boolean full,
+                                          SyncCallback callback, Runnable onApplied) {
+        AppExecutors.background().execute(() -> {
+            List<Tournament> catalogue = TournamentStore.applyCatalogue(changed, removedIds, full);
+            AppExecutors.runOnMain(() -> MainThreadBudget.run("Tournament sync", () -> {
+                if (onApplied != null) onApplied.run();
+                callback.onSynced(catalogue);
+            }));
+        });
+    }
+
+    // Realtime events take the same path, so the store is never merged on the main thread.
+    // The single background thread keeps pushed events in the order they arrived.
+    static void applyPushed(List<Tournament> changed, Collection<String> removedIds) {
+        AppExecutors.background().execute(() -> TournamentStore.applyCatalogue(changed, removedIds, false));
+    }
+
+    // Single tournaments fetched by the detail screens go the same way: storing one that is in
+    // the catalogue re-sorts and republishes the whole list
+    public static void put(Tournament tournament) {
+        AppExecutors.background().execute(() -> TournamentStore.put(tournament));
+    }
+}
@@ -0,0 +1,46 @@
+package com.zahid.love.repository;
+
+import com.zahid.love.api.ApiClient;
+import com.zahid.love.models.Transaction;
+import com.zahid.love.models.api.TransactionResponse;
+
+import java.util.List;
+
+import retrofit2.Call;
+
+public class TransactionPagingSource extends KeysetPagingSource<Transaction, TransactionResponse> {
+
+    private final String type;
+
+    public TransactionPagingSource(String type) {
+        super(30, 10, 300);
+        this.type = type;
+    }
+
+    @Override
+    protected Call<TransactionResponse> createCall(int pageSize, Long beforeId, Long afterId) {
+        return ApiClient.getApiService().getTransactionsPage(pageSize, type, beforeId, afterId);
+    }
+
+    @Override
+    protected List<Transaction> extractItems(TransactionResponse body) {
+        if (!body.isSuccess() || body.getData() == null) return null;
+        return body.getData().getTransactions();
+    }
+
+    @Override
+    protected boolean hasKey(Transaction item) {
+        try {
+            keyOf(item);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    // Only called for rows that passed hasKey
+    @Override
+    protected long keyOf(Transaction item) {
+        return Long.parseLong(String.valueOf(item.getId()));
+    }
+}
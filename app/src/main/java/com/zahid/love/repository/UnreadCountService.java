@@ -0,0 +1,144 @@
+package com.zahid.love.repository;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.LifecycleOwner;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.zahid.love.api.ApiClient;
+import com.zahid.love.data.DateStamps;
+import com.zahid.love.data.TournamentStore;
+import com.zahid.love.models.Tournament;
+import com.zahid.love.models.api.UnreadCountResponse;
+
+import java.util.List;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+// Polls the unread notification count while a bound screen is started. Each poll is a
+// conditional GET (see CachePolicyInterceptor), so an unchanged count costs a 304. The interval
+// stretches while nothing changes and tightens when a tournament is about to start, which is
+// when room details and results notifications arrive. Main thread only.
+public class UnreadCountService {
+
+    private static final String TAG = "UnreadCountService";
+
+    private static final Handler handler = new Handler(Looper.getMainLooper());
+    private static final MutableLiveData<Integer> unreadCount = new MutableLiveData<>();
+
+    private static int startedOwners = 0;
+    private static long idleIntervalMs = PollIntervals.BASE_INTERVAL_MS;
+    private static Call<UnreadCountResponse> inFlight;
+
+    private static final Runnable pollRunnable = UnreadCountService::poll;
+
+    private static final RealtimeClient.NotificationListener realtimeListener = notification -> {
+        adjust(1);
+        idleIntervalMs = PollIntervals.BASE_INTERVAL_MS;
+    };
+
+    public static LiveData<Integer> getUnreadCount() {
+        return unreadCount;
+    }
+
+    public static void bindTo(LifecycleOwner owner) {
+        owner.getLifecycle().addObserver(new DefaultLifecycleObserver() {
+            @Override
+            public void onStart(@NonNull LifecycleOwner owner) {
+                if (startedOwners++ == 0) {
+                    RealtimeClient.addNotificationListener(realtimeListener);
+                    refreshNow();
+                }
+            }
+
+            @Override
+            public void onStop(@NonNull LifecycleOwner owner) {
+                if (--startedOwners == 0) {
+                    RealtimeClient.removeNotificationListener(realtimeListener);
+                    handler.removeCallbacks(pollRunnable);
+                }
+            }
+
+            @Override
+            public void onDestroy(@NonNull LifecycleOwner owner) {
+                owner.getLifecycle().removeObserver(this);
+            }
+        });
+    }
+
+    public static void refreshNow() {
+        handler.removeCallbacks(pollRunnable);
+        poll();
+    }
+
+    // Optimistic change for reads and pushes the client already knows about
+    public static void adjust(int delta) {
+        Integer current = unreadCount.getValue();
+        if (current == null) return;
+        unreadCount.setValue(Math.max(0, current + delta));
+    }
+
+    public static void setUnreadCount(int count) {
+        unreadCount.setValue(count);
+    }
+
+    private static void poll() {
+        if (startedOwners == 0 || inFlight != null || !ApiClient.isLoggedIn()) return;
+
+        inFlight = ApiClient.getApiService().getUnreadNotificationCount();
+        inFlight.enqueue(new Callback<UnreadCountResponse>() {
+            @Override
+            public void onResponse(Call<UnreadCountResponse> call, Response<UnreadCountResponse> response) {
+                inFlight = null;
+                UnreadCountResponse body = response.body();
+                if (response.isSuccessful() && body != null && body.isSuccess() && body.getData() != null) {
+                    int count = body.getData().getUnreadCount();
+                    Integer previous = unreadCount.getValue();
+                    boolean changed = previous == null || previous != count;
+                    if (changed) {
+                        unreadCount.setValue(count);
+                    }
+                    idleIntervalMs = PollIntervals.nextIdle(idleIntervalMs, changed);
+                } else {
+                    Log.e(TAG, "Failed to load unread count: " + response.code());
+                }
+                scheduleNext();
+            }
+
+            @Override
+            public void onFailure(Call<UnreadCountResponse> call, Throwable t) {
+                inFlight = null;
+                Log.e(TAG, "Failed to load unread count", t);
+                idleIntervalMs = PollIntervals.backoff(idleIntervalMs);
+                scheduleNext();
+            }
+        });
+    }
+
+    private static void scheduleNext() {
+        if (startedOwners == 0) return;
+        long interval = PollIntervals.next(idleIntervalMs, isMatchStartingSoon());
+        handler.removeCallbacks(pollRunnable);
+        handler.postDelayed(pollRunnable, interval);
+    }
+
+    private static boolean isMatchStartingSoon() {
+        List<Tournament> catalogue = TournamentStore.getCatalogue();
+        if (catalogue == null) return false;
+
+        // The catalogue is sorted by start time, with rows that have none at the end
+        long[] startEpochs = new long[catalogue.size()];
+        for (int i = 0; i < startEpochs.length; i++) {
+            Tournament tournament = catalogue.get(i);
+            startEpochs[i] = DateStamps.of(tournament, tournament.getStartsAt()).getEpochMs();
+        }
+        return PollIntervals.isMatchStartingSoon(startEpochs, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,83 @@
+package com.zahid.love.repository;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import com.zahid.love.models.Transaction;
+
+import java.util.List;
+
+public class WinningsAggregator {
+
+    private static final String TAG = "WinningsAggregator";
+    private static final String PREFS_NAME = "wallet_stats_prefs";
+    private static final String TOTAL_KEY = "winnings_total";
+    private static final String LAST_ID_KEY = "winnings_last_id";
+    private static final String OWNER_KEY = "winnings_owner";
+
+    // Id of the newest credit transaction already counted, or 0 when nothing has been counted
+    public static synchronized long getLastSeenId(Context context, String userId) {
+        SharedPreferences prefs = prefsFor(context, userId);
+        return prefs.getLong(LAST_ID_KEY, 0L);
+    }
+
+    // Adds prize credits newer than the last seen id to the persisted running total. Pass every
+    // credit since the last seen id at once: the id moves past all of them.
+    public static synchronized double update(Context context, String userId, List<Transaction> transactions) {
+        SharedPreferences prefs = prefsFor(context, userId);
+        double total = Double.longBitsToDouble(prefs.getLong(TOTAL_KEY, Double.doubleToLongBits(0.0)));
+        long lastSeenId = prefs.getLong(LAST_ID_KEY, 0L);
+        long newestId = lastSeenId;
+
+        if (transactions != null) {
+            for (Transaction transaction : transactions) {
+                long id = parseId(transaction);
+                if (id <= lastSeenId) continue;
+
+                if (transaction.getReason() != null && transaction.getReason().toLowerCase().contains("prize")) {
+                    total += transaction.getAmount();
+                }
+                newestId = Math.max(newestId, id);
+            }
+        }
+
+        if (newestId != lastSeenId) {
+            prefs.edit()
+                    .putLong(TOTAL_KEY, Double.doubleToLongBits(total))
+                    .putLong(LAST_ID_KEY, newestId)
+                    .apply();
+        }
+        return total;
+    }
+
+    // Newest id in a page, or floor when the page has nothing newer
+    public static long newestId(List<Transaction> transactions, long floor) {
+        long newestId = floor;
+        if (transactions != null) {
+            for (Transaction transaction : transactions) {
+                newestId = Math.max(newestId, parseId(transaction));
+            }
+        }
+        return newestId;
+    }
+
+    private static SharedPreferences prefsFor(Context context, String userId) {
+        SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+
+        // The running total belongs to one account; a new token for the same account keeps it
+        if (!userId.equals(prefs.getString(OWNER_KEY, ""))) {
+            prefs.edit().clear().putString(OWNER_KEY, userId).apply();
+        }
+        return prefs;
+    }
+
+    private static long parseId(Transaction transaction) {
+        try {
+            return Long.parseLong(String.valueOf(transaction.getId()));
+        } catch (NumberFormatException e) {
+            Log.w(TAG, "Skipping transaction with non-numeric id: " + transaction.getId());
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.zahid.love.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Shared threads for work that must stay off the main thread but is not a network call
+public class AppExecutors {
+
+    private static final ExecutorService background = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "app-background");
+        thread.setPriority(Thread.NORM_PRIORITY - 1);
+        return thread;
+    });
+
+    // Image decoding for uploads can take seconds, so it never queues behind or ahead of the
+    // mapping and disk reads that screens wait on
+    private static final ExecutorService uploads = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "app-uploads");
+        thread.setPriority(Thread.NORM_PRIORITY - 1);
+        return thread;
+    });
+
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    public static ExecutorService background() {
+        return background;
+    }
+
+    public static ExecutorService uploads() {
+        return uploads;
+    }
+
+    public static void runOnMain(Runnable runnable) {
+        mainHandler.post(runnable);
+    }
+}
@@ -0,0 +1,107 @@
+package com.zahid.love.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.LifecycleOwner;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// One main-thread tick per second for every countdown on screen. Views register while they
+// are attached, so each tick costs O(visible countdowns) and binding allocates no timers.
+// Ticks only while the owner is resumed: a hidden tab is held at STARTED and must not tick.
+public class CountdownTicker implements DefaultLifecycleObserver {
+
+    private static final long TICK_MS = 1000;
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Map<TextView, Long> targets = new HashMap<>();
+    private boolean resumed = false;
+    private boolean scheduled = false;
+
+    private final Runnable tick = new Runnable() {
+        @Override
+        public void run() {
+            scheduled = false;
+            long now = System.currentTimeMillis();
+            for (Map.Entry<TextView, Long> entry : targets.entrySet()) {
+                entry.getKey().setText(format(entry.getValue() - now));
+            }
+            scheduleNext();
+        }
+    };
+
+    public void bindTo(LifecycleOwner owner) {
+        owner.getLifecycle().addObserver(this);
+    }
+
+    public void attach(TextView view, long startEpochMs) {
+        targets.put(view, startEpochMs);
+        view.setText(format(startEpochMs - System.currentTimeMillis()));
+        scheduleNext();
+    }
+
+    public void detach(TextView view) {
+        targets.remove(view);
+        if (targets.isEmpty()) {
+            cancel();
+        }
+    }
+
+    @Override
+    public void onResume(@NonNull LifecycleOwner owner) {
+        resumed = true;
+        handler.post(tick);
+        scheduled = true;
+    }
+
+    @Override
+    public void onPause(@NonNull LifecycleOwner owner) {
+        resumed = false;
+        cancel();
+    }
+
+    @Override
+    public void onDestroy(@NonNull LifecycleOwner owner) {
+        targets.clear();
+        cancel();
+        owner.getLifecycle().removeObserver(this);
+    }
+
+    private void scheduleNext() {
+        if (!resumed || scheduled || targets.isEmpty()) return;
+
+        // Align ticks to whole seconds so every countdown changes on the same frame
+        long delay = TICK_MS - (System.currentTimeMillis() % TICK_MS);
+        handler.postAtTime(tick, SystemClock.uptimeMillis() + delay);
+        scheduled = true;
+    }
+
+    private void cancel() {
+        handler.removeCallbacks(tick);
+        scheduled = false;
+    }
+
+    public static String format(long remainingMs) {
+        if (remainingMs <= 0) {
+            return "Started";
+        }
+
+        long totalSeconds = remainingMs / 1000;
+        long days = totalSeconds / 86400;
+        long hours = (totalSeconds % 86400) / 3600;
+        long minutes = (totalSeconds % 3600) / 60;
+        long seconds = totalSeconds % 60;
+
+        if (days > 0) {
+            return String.format(Locale.US, "%dd %02d:%02d:%02d", days, hours, minutes, seconds);
+        }
+        return String.format(Locale.US, "%02d:%02d:%02d", hours, minutes, seconds);
+    }
+}
@@ -0,0 +1,123 @@
+package com.zahid.love.utils;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+// Reads the orientation tag from a JPEG's EXIF block. This walks the marker segments up to the
+// image data instead of pulling in the AndroidX ExifInterface for a single tag; anything that
+// is not a well-formed JPEG with an orientation reads as NORMAL.
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+    static final int FLIP_HORIZONTAL = 2;
+    static final int ROTATE_180 = 3;
+    static final int FLIP_VERTICAL = 4;
+    static final int TRANSPOSE = 5;
+    static final int ROTATE_90 = 6;
+    static final int TRANSVERSE = 7;
+    static final int ROTATE_270 = 8;
+
+    private static final int MARKER_SOI = 0xD8;
+    private static final int MARKER_SOS = 0xDA;
+    private static final int MARKER_EOI = 0xD9;
+    private static final int MARKER_APP1 = 0xE1;
+    private static final int TAG_ORIENTATION = 0x0112;
+    private static final int TYPE_SHORT = 3;
+    private static final int EXIF_HEADER_LENGTH = 6;
+
+    private ExifOrientation() {
+    }
+
+    static int read(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(input);
+        try {
+            if (in.readUnsignedByte() != 0xFF || in.readUnsignedByte() != MARKER_SOI) return NORMAL;
+
+            while (true) {
+                if (in.readUnsignedByte() != 0xFF) return NORMAL;
+                int marker = in.readUnsignedByte();
+                // Fill bytes may pad between segments
+                while (marker == 0xFF) marker = in.readUnsignedByte();
+                if (marker == MARKER_SOS || marker == MARKER_EOI) return NORMAL;
+
+                int length = in.readUnsignedShort() - 2;
+                if (length < 0) return NORMAL;
+                if (marker != MARKER_APP1) {
+                    skip(in, length);
+                    continue;
+                }
+
+                byte[] segment = new byte[length];
+                in.readFully(segment);
+                if (isExif(segment)) {
+                    return orientationIn(segment);
+                }
+                // An XMP block can also be APP1; the EXIF one may still follow
+            }
+        } catch (EOFException e) {
+            return NORMAL;
+        }
+    }
+
+    private static boolean isExif(byte[] segment) {
+        return segment.length >= EXIF_HEADER_LENGTH
+                && segment[0] == 'E' && segment[1] == 'x' && segment[2] == 'i' && segment[3] == 'f'
+                && segment[4] == 0 && segment[5] == 0;
+    }
+
+    private static int orientationIn(byte[] segment) {
+        int tiff = EXIF_HEADER_LENGTH;
+        if (segment.length < tiff + 8) return NORMAL;
+
+        boolean littleEndian;
+        if (segment[tiff] == 'I' && segment[tiff + 1] == 'I') {
+            littleEndian = true;
+        } else if (segment[tiff] == 'M' && segment[tiff + 1] == 'M') {
+            littleEndian = false;
+        } else {
+            return NORMAL;
+        }
+        if (u16(segment, tiff + 2, littleEndian) != 42) return NORMAL;
+
+        long ifd = tiff + u32(segment, tiff + 4, littleEndian);
+        if (ifd + 2 > segment.length) return NORMAL;
+
+        int entries = u16(segment, (int) ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > segment.length) return NORMAL;
+            if (u16(segment, entry, littleEndian) != TAG_ORIENTATION) continue;
+            if (u16(segment, entry + 2, littleEndian) != TYPE_SHORT) return NORMAL;
+
+            int orientation = u16(segment, entry + 8, littleEndian);
+            return orientation >= NORMAL && orientation <= ROTATE_270 ? orientation : NORMAL;
+        }
+        return NORMAL;
+    }
+
+    private static int u16(byte[] b, int offset, boolean littleEndian) {
+        int first = b[offset] & 0xFF;
+        int second = b[offset + 1] & 0xFF;
+        return littleEndian ? (second << 8) | first : (first << 8) | second;
+    }
+
+    private static long u32(byte[] b, int offset, boolean littleEndian) {
+        long high = u16(b, offset + (littleEndian ? 2 : 0), littleEndian);
+        long low = u16(b, offset + (littleEndian ? 0 : 2), littleEndian);
+        return (high << 16) | low;
+    }
+
+    private static void skip(DataInputStream in, int count) throws IOException {
+        // InputStream.skip may skip fewer bytes than asked, even before the end of the stream
+        while (count > 0) {
+            int skipped = in.skipBytes(count);
+            if (skipped <= 0) {
+                in.readUnsignedByte();
+                skipped = 1;
+            }
+            count -= skipped;
+        }
+    }
+}
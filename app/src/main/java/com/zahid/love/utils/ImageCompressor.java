@@ -0,0 +1,153 @@
+package com.zahid.love.utils;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Matrix;
+import android.net.Uri;
+import android.util.Log;
+
+import androidx.annotation.WorkerThread;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+// Turns a picked image into a JPEG sized for its upload type. The decoder subsamples while
+// reading so a 12 MP camera original never has to sit in memory at full resolution.
+public class ImageCompressor {
+
+    private static final String TAG = "ImageCompressor";
+    private static final int MIN_QUALITY = 50;
+    private static final int QUALITY_STEP = 10;
+
+    public enum Spec {
+        // Shown as a small circle; anything larger is wasted
+        AVATAR(512, 85, 150 * 1024),
+        // Screenshots must keep scoreboards and room ids legible for review
+        TOURNAMENT_PROOF(1600, 90, 700 * 1024);
+
+        final int maxDimension;
+        final int quality;
+        final int targetBytes;
+
+        Spec(int maxDimension, int quality, int targetBytes) {
+            this.maxDimension = maxDimension;
+            this.quality = quality;
+            this.targetBytes = targetBytes;
+        }
+    }
+
+    // Returns null when the image cannot be read or decoded
+    @WorkerThread
+    public static byte[] compress(Context context, Uri uri, Spec spec) {
+        long startNs = System.nanoTime();
+        Bitmap decoded = null;
+        Bitmap transformed = null;
+
+        try {
+            BitmapFactory.Options bounds = new BitmapFactory.Options();
+            bounds.inJustDecodeBounds = true;
+            try (InputStream in = context.getContentResolver().openInputStream(uri)) {
+                if (in == null) return null;
+                BitmapFactory.decodeStream(in, null, bounds);
+            }
+            if (bounds.outWidth <= 0 || bounds.outHeight <= 0) return null;
+
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inSampleSize = sampleSizeFor(bounds.outWidth, bounds.outHeight, spec.maxDimension);
+            options.inPreferredConfig = Bitmap.Config.ARGB_8888;
+            try (InputStream in = context.getContentResolver().openInputStream(uri)) {
+                if (in == null) return null;
+                decoded = BitmapFactory.decodeStream(in, null, options);
+            }
+            if (decoded == null) return null;
+
+            transformed = orientAndScale(decoded, readOrientation(context, uri), spec.maxDimension);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(spec.targetBytes);
+            int quality = spec.quality;
+            transformed.compress(Bitmap.CompressFormat.JPEG, quality, out);
+            while (out.size() > spec.targetBytes && quality - QUALITY_STEP >= MIN_QUALITY) {
+                quality -= QUALITY_STEP;
+                out.reset();
+                transformed.compress(Bitmap.CompressFormat.JPEG, quality, out);
+            }
+
+            Log.d(TAG, spec + ": " + bounds.outWidth + "x" + bounds.outHeight + " -> "
+                    + transformed.getWidth() + "x" + transformed.getHeight() + ", " + out.size() / 1024
+                    + " KB at q" + quality + " in " + (System.nanoTime() - startNs) / 1_000_000 + "ms");
+            return out.toByteArray();
+        } catch (Exception | OutOfMemoryError e) {
+            // Includes SecurityException from an expired URI grant; the caller reports the failure
+            Log.e(TAG, "Error compressing image", e);
+            return null;
+        } finally {
+            if (transformed != null && transformed != decoded) transformed.recycle();
+            if (decoded != null) decoded.recycle();
+        }
+    }
+
+    // Largest power of two that keeps the longest side at or above max, so the Matrix only ever scales down
+    static int sampleSizeFor(int width, int height, int maxDimension) {
+        int sampleSize = 1;
+        int longest = Math.max(width, height);
+        while (longest / (sampleSize * 2) >= maxDimension) {
+            sampleSize *= 2;
+        }
+        return sampleSize;
+    }
+
+    private static int readOrientation(Context context, Uri uri) {
+        // PNG screenshots and some providers carry no EXIF block and read as NORMAL
+        try (InputStream in = context.getContentResolver().openInputStream(uri)) {
+            if (in == null) return ExifOrientation.NORMAL;
+            return ExifOrientation.read(new BufferedInputStream(in));
+        } catch (IOException e) {
+            Log.w(TAG, "Could not read EXIF orientation", e);
+            return ExifOrientation.NORMAL;
+        }
+    }
+
+    private static Bitmap orientAndScale(Bitmap source, int orientation, int maxDimension) {
+        Matrix matrix = new Matrix();
+
+        int longest = Math.max(source.getWidth(), source.getHeight());
+        if (longest > maxDimension) {
+            float scale = (float) maxDimension / longest;
+            matrix.postScale(scale, scale);
+        }
+
+        switch (orientation) {
+            case ExifOrientation.ROTATE_90:
+                matrix.postRotate(90);
+                break;
+            case ExifOrientation.ROTATE_180:
+                matrix.postRotate(180);
+                break;
+            case ExifOrientation.ROTATE_270:
+                matrix.postRotate(270);
+                break;
+            case ExifOrientation.FLIP_HORIZONTAL:
+                matrix.postScale(-1, 1);
+                break;
+            case ExifOrientation.FLIP_VERTICAL:
+                matrix.postScale(1, -1);
+                break;
+            case ExifOrientation.TRANSPOSE:
+                matrix.postRotate(90);
+                matrix.postScale(-1, 1);
+                break;
+            case ExifOrientation.TRANSVERSE:
+                matrix.postRotate(270);
+                matrix.postScale(-1, 1);
+                break;
+            default:
+                break;
+        }
+
+        if (matrix.isIdentity()) return source;
+        return Bitmap.createBitmap(source, 0, 0, source.getWidth(), source.getHeight(), matrix, true);
+    }
+}
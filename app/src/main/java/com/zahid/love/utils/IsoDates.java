@@ -0,0 +1,82 @@
+package com.zahid.love.utils;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Parsed by hand rather than with java.time, which needs API 26 or core library desugaring.
+// Nothing here is shared mutable state, so the OkHttp threads that deserialize responses and
+// the main thread can call it at the same time.
+public class IsoDates {
+
+    // 2024-05-01T12:30:00.000000Z from Laravel, or 2024-05-01 12:30:00 from older endpoints
+    private static final Pattern TIMESTAMP = Pattern.compile(
+            "(\\d{4})-(\\d{2})-(\\d{2})[T ](\\d{2}):(\\d{2}):(\\d{2})(?:\\.(\\d{1,9}))?(Z|[+-]\\d{2}:?\\d{2})?");
+
+    private static final long MS_PER_MINUTE = 60 * 1000L;
+    private static final long MS_PER_DAY = 24 * 60 * MS_PER_MINUTE;
+
+    // Epoch millis of a Laravel timestamp, or -1 when it is missing or malformed. Values
+    // without an offset are raw database values, which are stored in UTC.
+    public static long parseEpoch(String value) {
+        if (value == null || value.isEmpty()) return -1;
+
+        Matcher m = TIMESTAMP.matcher(value);
+        if (!m.matches()) return -1;
+
+        int year = Integer.parseInt(m.group(1));
+        int month = Integer.parseInt(m.group(2));
+        int day = Integer.parseInt(m.group(3));
+        int hour = Integer.parseInt(m.group(4));
+        int minute = Integer.parseInt(m.group(5));
+        int second = Integer.parseInt(m.group(6));
+        if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59) {
+            return -1;
+        }
+
+        long millis = 0;
+        String fraction = m.group(7);
+        if (fraction != null) {
+            // Only the first three digits are millis; Laravel sends six
+            millis = Integer.parseInt((fraction + "00").substring(0, 3));
+        }
+
+        long epoch = daysFromEpoch(year, month, day) * MS_PER_DAY
+                + ((hour * 60L + minute) * 60L + second) * 1000L + millis;
+
+        String zone = m.group(8);
+        if (zone != null && !"Z".equals(zone)) {
+            int offsetHours = Integer.parseInt(zone.substring(1, 3));
+            int offsetMinutes = Integer.parseInt(zone.substring(zone.length() - 2));
+            if (offsetHours > 18 || offsetMinutes > 59) return -1;
+            long offset = (offsetHours * 60L + offsetMinutes) * MS_PER_MINUTE;
+            epoch -= zone.charAt(0) == '+' ? offset : -offset;
+        }
+        return epoch;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    // Days since 1970-01-01 in the proleptic Gregorian calendar
+    private static long daysFromEpoch(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+}
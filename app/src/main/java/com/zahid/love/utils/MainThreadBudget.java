@@ -0,0 +1,32 @@
+package com.zahid.love.utils;
+
+import android.util.Log;
+
+import com.zahid.love.BuildConfig;
+
+// Times the main-thread half of work that was mapped in the background. Anything over budget
+// means mapping leaked back onto the main thread and is logged in debug builds.
+public class MainThreadBudget {
+
+    private static final String TAG = "MainThreadBudget";
+
+    // Half a 60 Hz frame, leaving the rest for measure, layout and draw
+    public static final long BUDGET_MS = 8;
+
+    public static void run(String label, Runnable work) {
+        long elapsedMs = measure(work);
+        if (BuildConfig.DEBUG && isOverBudget(elapsedMs)) {
+            Log.w(TAG, label + " took " + elapsedMs + "ms on the main thread");
+        }
+    }
+
+    static long measure(Runnable work) {
+        long startNs = System.nanoTime();
+        work.run();
+        return (System.nanoTime() - startNs) / 1_000_000L;
+    }
+
+    static boolean isOverBudget(long elapsedMs) {
+        return elapsedMs > BUDGET_MS;
+    }
+}
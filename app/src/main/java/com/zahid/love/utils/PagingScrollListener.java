@@ -0,0 +1,26 @@
+package com.zahid.love.utils;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.zahid.love.repository.KeysetPagingSource;
+
+public class PagingScrollListener extends RecyclerView.OnScrollListener {
+
+    private final KeysetPagingSource<?, ?> pagingSource;
+
+    public PagingScrollListener(KeysetPagingSource<?, ?> pagingSource) {
+        this.pagingSource = pagingSource;
+    }
+
+    @Override
+    public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+        if (!(recyclerView.getLayoutManager() instanceof LinearLayoutManager)) return;
+
+        LinearLayoutManager layoutManager = (LinearLayoutManager) recyclerView.getLayoutManager();
+        pagingSource.onVisibleRangeChanged(
+                layoutManager.findFirstVisibleItemPosition(),
+                layoutManager.findLastVisibleItemPosition());
+    }
+}
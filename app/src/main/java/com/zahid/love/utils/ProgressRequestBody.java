@@ -0,0 +1,70 @@
+package com.zahid.love.utils;
+
+import android.os.SystemClock;
+
+import java.io.IOException;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+
+// Writes an in-memory upload to the socket in chunks and reports how far it has got.
+// Progress is posted to the main thread at most every PROGRESS_INTERVAL_MS, and only when
+// the percentage actually moves.
+public class ProgressRequestBody extends RequestBody {
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final long PROGRESS_INTERVAL_MS = 100;
+
+    public interface ProgressListener {
+        void onProgress(int progress);
+    }
+
+    private final MediaType contentType;
+    private final byte[] content;
+    private final ProgressListener listener;
+
+    public ProgressRequestBody(MediaType contentType, byte[] content, ProgressListener listener) {
+        this.contentType = contentType;
+        this.content = content;
+        this.listener = listener;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return contentType;
+    }
+
+    @Override
+    public long contentLength() {
+        return content.length;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        // Body logging copies the request into a Buffer first; only the real network write counts
+        boolean report = listener != null && !(sink instanceof Buffer);
+
+        int written = 0;
+        int lastProgress = -1;
+        long lastReportMs = 0;
+
+        while (written < content.length) {
+            int count = Math.min(CHUNK_SIZE, content.length - written);
+            sink.write(content, written, count);
+            // Flush each chunk so the count follows the socket rather than okio's buffer
+            sink.flush();
+            written += count;
+
+            if (!report) continue;
+            int progress = (int) (written * 100L / content.length);
+            long now = SystemClock.uptimeMillis();
+            if (progress != lastProgress && (progress == 100 || now - lastReportMs >= PROGRESS_INTERVAL_MS)) {
+                lastProgress = progress;
+                lastReportMs = now;
+                AppExecutors.runOnMain(() -> listener.onProgress(progress));
+            }
+        }
+    }
+}
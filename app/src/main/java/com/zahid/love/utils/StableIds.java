@@ -0,0 +1,15 @@
+package com.zahid.love.utils;
+
+public class StableIds {
+
+    // Numeric server ids map straight to RecyclerView ids; anything else falls back to a hash
+    public static long of(Object id) {
+        if (id == null) return 0L;
+        String value = String.valueOf(id);
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return value.hashCode() & 0xffffffffL | (1L << 32);
+        }
+    }
+}
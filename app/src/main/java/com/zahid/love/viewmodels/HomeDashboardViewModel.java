@@ -0,0 +1,105 @@
+package com.zahid.love.viewmodels;
+
+import android.app.Application;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.zahid.love.api.ApiClient;
+import com.zahid.love.data.LocalStore;
+import com.zahid.love.models.api.WalletResponse;
+import com.zahid.love.repository.DashboardRepository;
+import com.zahid.love.repository.DashboardSnapshot;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+// Holds the home dashboard across tab switches and configuration changes, so a returning
+// view renders the last snapshot straight away and only goes to the network once it is stale.
+public class HomeDashboardViewModel extends AndroidViewModel {
+
+    private static final String TAG = "HomeDashboardViewModel";
+    private static final long DASHBOARD_FRESH_MS = 2 * 60 * 1000;
+    private static final long WALLET_FRESH_MS = 30 * 1000;
+
+    private final MutableLiveData<DashboardSnapshot> snapshot = new MutableLiveData<>();
+    private final MutableLiveData<Double> walletBalance = new MutableLiveData<>();
+
+    private boolean loading = false;
+    private boolean walletLoading = false;
+    private long loadedAtMs = 0;
+    private long walletLoadedAtMs = 0;
+
+    public HomeDashboardViewModel(@NonNull Application application) {
+        super(application);
+    }
+
+    public LiveData<DashboardSnapshot> getSnapshot() {
+        return snapshot;
+    }
+
+    // The newest balance from either a full load or a wallet-only refresh
+    public LiveData<Double> getWalletBalance() {
+        return walletBalance;
+    }
+
+    public void refreshIfStale() {
+        if (loading || (loadedAtMs > 0 && SystemClock.elapsedRealtime() - loadedAtMs < DASHBOARD_FRESH_MS)) return;
+        loading = true;
+
+        if (snapshot.getValue() == null) {
+            DashboardRepository.loadCached(getApplication(), cached -> {
+                // The disk copy is only a placeholder; never let it overwrite network data
+                DashboardSnapshot current = snapshot.getValue();
+                if (current == null || current.isCached()) {
+                    snapshot.setValue(cached);
+                }
+            });
+        }
+
+        DashboardRepository.load(getApplication(), loaded -> {
+            snapshot.setValue(loaded);
+            if (loaded.getWalletBalance() != null) {
+                walletBalance.setValue(loaded.getWalletBalance());
+                walletLoadedAtMs = SystemClock.elapsedRealtime();
+            }
+            if (loaded.isComplete()) {
+                loading = false;
+                // A part that failed is fetched again on the next resume rather than after the window
+                if (loaded.hasEveryPart()) {
+                    loadedAtMs = SystemClock.elapsedRealtime();
+                }
+            }
+        });
+    }
+
+    public void refreshWalletIfStale() {
+        if (walletLoading || loading || SystemClock.elapsedRealtime() - walletLoadedAtMs < WALLET_FRESH_MS) return;
+        walletLoading = true;
+
+        ApiClient.getApiService().getWallet().enqueue(new Callback<WalletResponse>() {
+            @Override
+            public void onResponse(Call<WalletResponse> call, Response<WalletResponse> response) {
+                walletLoading = false;
+                WalletResponse body = response.body();
+                if (response.isSuccessful() && body != null && body.isSuccess() && body.getData() != null) {
+                    double balance = body.getData().getBalance();
+                    walletLoadedAtMs = SystemClock.elapsedRealtime();
+                    walletBalance.setValue(balance);
+                    LocalStore.get(getApplication()).write(LocalStore.WALLET_BALANCE, balance);
+                }
+            }
+
+            @Override
+            public void onFailure(Call<WalletResponse> call, Throwable t) {
+                walletLoading = false;
+                Log.e(TAG, "Failed to load wallet balance", t);
+            }
+        });
+    }
+}
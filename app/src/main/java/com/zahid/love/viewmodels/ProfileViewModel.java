@@ -0,0 +1,72 @@
+package com.zahid.love.viewmodels;
+
+import android.app.Application;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.zahid.love.api.ApiClient;
+import com.zahid.love.api.SingleFlight;
+import com.zahid.love.data.LocalStore;
+import com.zahid.love.models.User;
+import com.zahid.love.models.api.UserResponse;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+public class ProfileViewModel extends AndroidViewModel {
+
+    private static final String TAG = "ProfileViewModel";
+    private static final long PROFILE_FRESH_MS = 5 * 60 * 1000;
+
+    private final MutableLiveData<User> user = new MutableLiveData<>();
+
+    private boolean loading = false;
+    private long loadedAtMs = 0;
+
+    public ProfileViewModel(@NonNull Application application) {
+        super(application);
+    }
+
+    public LiveData<User> getUser() {
+        return user;
+    }
+
+    public void refreshIfStale() {
+        if (loading || (loadedAtMs > 0 && SystemClock.elapsedRealtime() - loadedAtMs < PROFILE_FRESH_MS)) return;
+        loading = true;
+
+        LocalStore store = LocalStore.get(getApplication());
+        if (user.getValue() == null) {
+            store.<User>read(LocalStore.PROFILE, User.class, saved -> {
+                if (saved != null && user.getValue() == null) {
+                    user.setValue(saved);
+                }
+            });
+        }
+
+        SingleFlight.enqueue(SingleFlight.PROFILE, ApiClient.getApiService().getProfile(), new Callback<UserResponse>() {
+            @Override
+            public void onResponse(Call<UserResponse> call, Response<UserResponse> response) {
+                loading = false;
+                UserResponse body = response.body();
+                if (response.isSuccessful() && body != null && body.isSuccess() && body.getData() != null) {
+                    loadedAtMs = SystemClock.elapsedRealtime();
+                    user.setValue(body.getData());
+                    store.write(LocalStore.PROFILE, body.getData());
+                }
+            }
+
+            @Override
+            public void onFailure(Call<UserResponse> call, Throwable t) {
+                loading = false;
+                Log.e(TAG, "Failed to load user profile", t);
+            }
+        });
+    }
+}
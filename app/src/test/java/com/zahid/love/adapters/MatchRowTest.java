@@ -0,0 +1,38 @@
+package com.zahid.love.adapters;
+
+import org.junit.Test;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+
+public class MatchRowTest {
+
+    @Test
+    public void joinState() {
+        // A full match reads as full whatever its status says
+        assertEquals(MatchRow.JoinState.FULL, MatchRow.joinStateFor(48, 48, "Open"));
+        assertEquals(MatchRow.JoinState.FULL, MatchRow.joinStateFor(50, 48, "Closed"));
+        assertEquals(MatchRow.JoinState.FULL, MatchRow.joinStateFor(0, 0, null));
+
+        assertEquals(MatchRow.JoinState.OPEN, MatchRow.joinStateFor(47, 48, "Open"));
+
+        // Status matching is exact, as the server sends it
+        assertEquals(MatchRow.JoinState.UNAVAILABLE, MatchRow.joinStateFor(10, 48, "open"));
+        assertEquals(MatchRow.JoinState.UNAVAILABLE, MatchRow.joinStateFor(10, 48, "Closed"));
+        assertEquals(MatchRow.JoinState.UNAVAILABLE, MatchRow.joinStateFor(10, 48, null));
+    }
+
+    @Test
+    public void rowTextMatchesWhatBindUsedToBuild() {
+        DecimalFormat decimalFormat = new DecimalFormat("#,##0.00", DecimalFormatSymbols.getInstance(Locale.US));
+        double[] amounts = {0, 20, 1500.5, 1234567.891};
+        for (double amount : amounts) {
+            assertEquals("Entry: ৳" + decimalFormat.format(amount), MatchRow.amountText("Entry", amount, decimalFormat));
+        }
+        assertEquals("Prize: ৳1,500.50", MatchRow.amountText("Prize", 1500.5, decimalFormat));
+        assertEquals("12/48 players", MatchRow.playersText(12, 48));
+    }
+}
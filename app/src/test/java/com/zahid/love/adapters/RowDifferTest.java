@@ -0,0 +1,35 @@
+package com.zahid.love.adapters;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RowDifferTest {
+
+    @Test
+    public void mapAllKeepsOrderAndSkipsNulls() {
+        List<Integer> seen = new ArrayList<>();
+        List<String> rows = RowDiffer.mapAll(Arrays.asList(3, null, 1, 2, null), item -> {
+            seen.add(item);
+            return "row " + item;
+        });
+
+        assertEquals(Arrays.asList("row 3", "row 1", "row 2"), rows);
+        assertEquals(Arrays.asList(3, 1, 2), seen);
+        assertTrue(RowDiffer.mapAll(Collections.<Integer>emptyList(), item -> item).isEmpty());
+
+        try {
+            rows.add("row 4");
+            fail("rows handed to the differ must be immutable");
+        } catch (UnsupportedOperationException expected) {
+            // The differ keeps this list as its current list
+        }
+    }
+}
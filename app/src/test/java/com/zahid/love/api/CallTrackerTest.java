@@ -0,0 +1,156 @@
+package com.zahid.love.api;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.OkHttpClient;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.http.GET;
+import retrofit2.http.POST;
+import retrofit2.http.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+// Real Retrofit calls against a local server that holds each response until the test lets it go
+public class CallTrackerTest {
+
+    private static final String READ = "GET tournaments/{id}";
+    private static final String WRITE = "POST tournaments/{id}/join";
+
+    interface Endpoints {
+        @GET("tournaments/{id}")
+        Call<ResponseBody> tournament(@Path("id") int id);
+
+        @POST("tournaments/{id}/join")
+        Call<ResponseBody> join(@Path("id") int id);
+    }
+
+    private final MockWebServer server = new MockWebServer();
+    // Stands in for the main thread: callbacks and releases run here one at a time
+    private final ExecutorService main = Executors.newSingleThreadExecutor();
+    private final CountDownLatch received = new CountDownLatch(1);
+    private final CountDownLatch gate = new CountDownLatch(1);
+    private final CallTracker tracker = new CallTracker();
+    private Endpoints endpoints;
+
+    @Before
+    public void setUp() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                received.countDown();
+                gate.await(5, TimeUnit.SECONDS);
+                return new MockResponse().setBody("{\"success\":true}");
+            }
+        });
+        server.start();
+
+        endpoints = new Retrofit.Builder()
+                .baseUrl(server.url("/api/"))
+                .client(new OkHttpClient())
+                .callbackExecutor(main)
+                .build()
+                .create(Endpoints.class);
+        ApiMetrics.reset();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        gate.countDown();
+        main.shutdownNow();
+        server.shutdown();
+    }
+
+    @Test
+    public void releaseCancelsAReadAndNeverDeliversIt() throws Exception {
+        Call<ResponseBody> call = endpoints.tournament(12);
+        CountingCallback callback = new CountingCallback();
+        onMain(() -> call.enqueue(tracker.track(call, callback, true, READ)));
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+
+        onMain(tracker::releaseAll);
+        gate.countDown();
+
+        assertTrue(call.isCanceled());
+        assertFalse(callback.done.await(500, TimeUnit.MILLISECONDS));
+        onMain(() -> assertEquals(0, tracker.pendingCount()));
+        assertEquals(1, ApiMetrics.lifecycleCancels(READ));
+        assertEquals(0, ApiMetrics.lateCallbacks(READ));
+    }
+
+    @Test
+    public void releasedWriteStillRunsButItsResultIsDropped() throws Exception {
+        Call<ResponseBody> call = endpoints.join(12);
+        CountingCallback callback = new CountingCallback();
+        onMain(() -> call.enqueue(tracker.track(call, callback, false, WRITE)));
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+
+        onMain(tracker::releaseAll);
+        assertFalse(call.isCanceled());
+        gate.countDown();
+
+        // The late response is counted instead of reaching the dead screen
+        for (int i = 0; i < 50 && ApiMetrics.lateCallbacks(WRITE) == 0; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(1, ApiMetrics.lateCallbacks(WRITE));
+        assertEquals(0, ApiMetrics.lifecycleCancels(WRITE));
+        assertEquals(0, callback.calls.get());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void deliveredCallIsNoLongerPending() throws Exception {
+        gate.countDown();
+        Call<ResponseBody> call = endpoints.tournament(12);
+        CountingCallback callback = new CountingCallback();
+        onMain(() -> call.enqueue(tracker.track(call, callback, true, READ)));
+
+        assertTrue(callback.done.await(5, TimeUnit.SECONDS));
+        onMain(() -> assertEquals(0, tracker.pendingCount()));
+
+        // Releasing afterwards has nothing left to cancel
+        onMain(tracker::releaseAll);
+        assertFalse(call.isCanceled());
+        assertEquals(1, callback.calls.get());
+        assertEquals(0, ApiMetrics.lifecycleCancels(READ));
+    }
+
+    private void onMain(Runnable work) throws Exception {
+        main.submit(work).get(5, TimeUnit.SECONDS);
+    }
+
+    private static class CountingCallback implements Callback<ResponseBody> {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(1);
+
+        @Override
+        public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
+            calls.incrementAndGet();
+            done.countDown();
+        }
+
+        @Override
+        public void onFailure(Call<ResponseBody> call, Throwable t) {
+            calls.incrementAndGet();
+            done.countDown();
+        }
+    }
+}
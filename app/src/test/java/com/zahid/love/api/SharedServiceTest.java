@@ -0,0 +1,108 @@
+package com.zahid.love.api;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.OkHttpClient;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Call;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.http.GET;
+import retrofit2.http.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+// What ApiClient.getApiService() relies on when it hands one proxy to every caller
+public class SharedServiceTest {
+
+    private static final int THREADS = 8;
+    private static final int CALLS_PER_THREAD = 25;
+
+    interface Endpoints {
+        @GET("tournaments/{id}")
+        Call<ResponseBody> tournament(@Path("id") int id);
+    }
+
+    private final MockWebServer server = new MockWebServer();
+    private Retrofit retrofit;
+
+    @Before
+    public void setUp() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                // Echo the path so each caller can check it got its own answer
+                return new MockResponse().setBody(request.getPath());
+            }
+        });
+        server.start();
+
+        retrofit = new Retrofit.Builder()
+                .baseUrl(server.url("/api/"))
+                .client(new OkHttpClient())
+                .build();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void createBuildsANewProxyEveryTime() {
+        // The per-call cost the cached instance avoids
+        assertNotSame(retrofit.create(Endpoints.class), retrofit.create(Endpoints.class));
+    }
+
+    @Test
+    public void oneProxyServesConcurrentCallers() throws Exception {
+        Endpoints shared = retrofit.create(Endpoints.class);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final int thread = t;
+                results.add(pool.submit((Callable<Integer>) () -> {
+                    int ok = 0;
+                    for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                        int id = thread * CALLS_PER_THREAD + i;
+                        Response<ResponseBody> response = shared.tournament(id).execute();
+                        try (ResponseBody body = response.body()) {
+                            if (response.isSuccessful() && body != null
+                                    && body.string().equals("/api/tournaments/" + id)) {
+                                ok++;
+                            }
+                        }
+                    }
+                    return ok;
+                }));
+            }
+
+            int ok = 0;
+            for (Future<Integer> result : results) {
+                ok += result.get(30, TimeUnit.SECONDS);
+            }
+            assertEquals(THREADS * CALLS_PER_THREAD, ok);
+            assertEquals(THREADS * CALLS_PER_THREAD, server.getRequestCount());
+        } finally {
+            pool.shutdownNow();
+            assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.zahid.love.data;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class DateStampsTest {
+
+    private static final String MAY_FIRST = "2024-05-01T12:30:00.000000Z";
+    private static final String JUNE_FIRST = "2024-06-01T12:30:00.000000Z";
+
+    // Equal to every other instance, like a model whose equals compares ids
+    private static class EqualModel {
+        int hash;
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof EqualModel;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    @Test
+    public void equalModelsKeepTheirOwnStamps() {
+        EqualModel first = new EqualModel();
+        EqualModel second = new EqualModel();
+        DateStamps.prime(first, MAY_FIRST);
+        DateStamps.prime(second, JUNE_FIRST);
+
+        assertEquals(1_714_566_600_000L, DateStamps.of(first, MAY_FIRST).getEpochMs());
+        assertEquals(1_717_245_000_000L, DateStamps.of(second, JUNE_FIRST).getEpochMs());
+    }
+
+    @Test
+    public void stampSurvivesAChangingHashCode() {
+        EqualModel model = new EqualModel();
+        DateStamps.prime(model, MAY_FIRST);
+        DateStamps.Stamp primed = DateStamps.of(model, MAY_FIRST);
+
+        model.hash = 42;
+        assertSame(primed, DateStamps.of(model, MAY_FIRST));
+    }
+
+    @Test
+    public void changedDateIsParsedAgain() {
+        Object model = new Object();
+        DateStamps.Stamp primed = DateStamps.of(model, MAY_FIRST);
+        DateStamps.Stamp changed = DateStamps.of(model, JUNE_FIRST);
+
+        assertNotSame(primed, changed);
+        assertEquals(1_717_245_000_000L, changed.getEpochMs());
+        assertSame(changed, DateStamps.of(model, JUNE_FIRST));
+    }
+
+    @Test
+    public void primingAgainReplacesTheEntry() {
+        Object model = new Object();
+        DateStamps.prime(model, MAY_FIRST);
+        int size = DateStamps.size();
+        DateStamps.prime(model, MAY_FIRST);
+
+        assertEquals(size, DateStamps.size());
+    }
+
+    @Test
+    public void invalidDatesHaveNoLabels() {
+        DateStamps.Stamp stamp = DateStamps.of(new Object(), "soon");
+        assertFalse(stamp.isValid());
+        assertNull(stamp.getDateLabel());
+        assertNull(stamp.getDateTimeLabel());
+
+        DateStamps.Stamp valid = DateStamps.of(new Object(), MAY_FIRST);
+        assertNotNull(valid.getDateLabel());
+        assertNotNull(valid.getDateTimeLabel());
+    }
+}
@@ -0,0 +1,33 @@
+package com.zahid.love.repository;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class AckRequestsTest {
+
+    @Test
+    public void sentCount() {
+        // batch size, per-id endpoint, ids the request carries
+        int[][] cases = {
+                {25, 0, 25},
+                {25, 1, 1},
+                {1, 0, 1},
+                {1, 1, 1},
+                {0, 0, 0},
+                {0, 1, 0},
+        };
+        for (int[] c : cases) {
+            assertEquals("batch of " + c[0] + (c[1] == 1 ? " per id" : ""),
+                    c[2], AckRequests.sentCount(c[0], c[1] == 1));
+        }
+    }
+
+    @Test
+    public void onlyServerErrorsTimeoutsAndThrottlingAreRetried() {
+        for (int code = 200; code < 600; code++) {
+            boolean expected = code < 400 || code >= 500 || code == 408 || code == 429;
+            assertEquals("HTTP " + code, expected, AckRequests.isRetryable(code));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.zahid.love.repository;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PollIntervalsTest {
+
+    private static final long MINUTE = 60 * 1000;
+
+    @Test
+    public void idleIntervalStretchesUntilTheCountChanges() {
+        long interval = PollIntervals.BASE_INTERVAL_MS;
+        long[] expected = {2 * MINUTE, 4 * MINUTE, 5 * MINUTE, 5 * MINUTE};
+        for (long next : expected) {
+            interval = PollIntervals.nextIdle(interval, false);
+            assertEquals(next, interval);
+        }
+
+        assertEquals(PollIntervals.BASE_INTERVAL_MS, PollIntervals.nextIdle(interval, true));
+        assertEquals(PollIntervals.nextIdle(3 * MINUTE, false), PollIntervals.backoff(3 * MINUTE));
+    }
+
+    @Test
+    public void matchWindowOverridesTheIdleInterval() {
+        assertEquals(PollIntervals.MATCH_INTERVAL_MS, PollIntervals.next(5 * MINUTE, true));
+        assertEquals(5 * MINUTE, PollIntervals.next(5 * MINUTE, false));
+    }
+
+    @Test
+    public void matchStartingSoon() {
+        long now = 1_700_000_000_000L;
+
+        assertTrue(PollIntervals.isMatchStartingSoon(new long[]{now + 15 * MINUTE}, now));
+        assertFalse(PollIntervals.isMatchStartingSoon(new long[]{now + 15 * MINUTE + 1}, now));
+
+        // Sorted soonest first, so a far first match hides nothing behind it
+        assertFalse(PollIntervals.isMatchStartingSoon(new long[]{now + 30 * MINUTE, now + 40 * MINUTE}, now));
+
+        // Started a moment ago still counts; long started ones are passed over
+        assertTrue(PollIntervals.isMatchStartingSoon(new long[]{now - 5 * MINUTE, now + 60 * MINUTE}, now));
+        assertTrue(PollIntervals.isMatchStartingSoon(new long[]{now - 60 * MINUTE, now + 5 * MINUTE}, now));
+        assertFalse(PollIntervals.isMatchStartingSoon(new long[]{now - 60 * MINUTE, now + 60 * MINUTE}, now));
+
+        // Rows without a start time sort last and never count
+        assertFalse(PollIntervals.isMatchStartingSoon(new long[]{-1, -1}, now));
+        assertFalse(PollIntervals.isMatchStartingSoon(new long[0], now));
+    }
+}
@@ -0,0 +1,144 @@
+package com.zahid.love.repository;
+
+import com.google.gson.Gson;
+import com.zahid.love.models.Notification;
+import com.zahid.love.models.Tournament;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+// Runs the socket client against a local mock server instead of the realtime endpoint
+public class RealtimeProtocolTest {
+
+    private final MockWebServer server = new MockWebServer();
+    private final Gson gson = new Gson();
+
+    @Before
+    public void setUp() throws Exception {
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void pushedEventsReachTheSink() throws Exception {
+        server.enqueue(new MockResponse().withWebSocketUpgrade(new WebSocketListener() {
+            @Override
+            public void onOpen(WebSocket webSocket, Response response) {
+                webSocket.send("{\"type\":\"tournament.created\",\"data\":{}}");
+                webSocket.send("{\"type\":\"tournament.updated\",\"data\":{}}");
+                webSocket.send("{\"type\":\"match.chat\",\"data\":{}}");
+                webSocket.send("{\"type\":\"tournament.closed\",\"data\":{\"id\":\"42\"}}");
+                webSocket.send("{\"type\":\"notification.created\",\"data\":{}}");
+            }
+        }));
+
+        List<String> received = new CopyOnWriteArrayList<>();
+        AtomicInteger unknown = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(5);
+        RealtimeProtocol.EventSink sink = new RealtimeProtocol.EventSink() {
+            @Override
+            public void onTournamentCreated(Tournament tournament) {
+                received.add("created");
+            }
+
+            @Override
+            public void onTournamentUpdated(Tournament tournament) {
+                received.add("updated");
+            }
+
+            @Override
+            public void onTournamentClosed(String id) {
+                received.add("closed " + id);
+            }
+
+            @Override
+            public void onNotificationCreated(Notification notification) {
+                received.add("notification");
+            }
+        };
+
+        OkHttpClient client = RealtimeProtocol.socketClient(new OkHttpClient());
+        WebSocket socket = client.newWebSocket(new Request.Builder().url(server.url("/realtime")).build(),
+                new WebSocketListener() {
+                    @Override
+                    public void onMessage(WebSocket webSocket, String text) {
+                        if (!RealtimeProtocol.dispatch(text, gson, sink)) unknown.incrementAndGet();
+                        done.countDown();
+                    }
+                });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        socket.close(1000, null);
+
+        assertEquals(4, received.size());
+        assertEquals("created", received.get(0));
+        assertEquals("updated", received.get(1));
+        assertEquals("closed 42", received.get(2));
+        assertEquals("notification", received.get(3));
+        assertEquals(1, unknown.get());
+    }
+
+    @Test
+    public void rejectedHandshakeSkipsTheSessionAuthenticator() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(401));
+
+        // Stands in for ApiClient's authenticator, which clears the token and logs the user out
+        AtomicInteger authenticatorCalls = new AtomicInteger();
+        OkHttpClient apiClient = new OkHttpClient.Builder()
+                .authenticator((route, response) -> {
+                    authenticatorCalls.incrementAndGet();
+                    return null;
+                })
+                .build();
+
+        AtomicReference<Response> failure = new AtomicReference<>();
+        CountDownLatch failed = new CountDownLatch(1);
+        RealtimeProtocol.socketClient(apiClient).newWebSocket(
+                new Request.Builder().url(server.url("/realtime")).build(),
+                new WebSocketListener() {
+                    @Override
+                    public void onFailure(WebSocket webSocket, Throwable t, Response response) {
+                        failure.set(response);
+                        failed.countDown();
+                    }
+                });
+
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, authenticatorCalls.get());
+        assertEquals(401, failure.get().code());
+        assertFalse(RealtimeProtocol.shouldReconnect(failure.get().code()));
+    }
+
+    @Test
+    public void onlyRejectionsStopReconnecting() {
+        assertFalse(RealtimeProtocol.shouldReconnect(403));
+        assertFalse(RealtimeProtocol.shouldReconnect(1008));
+        assertTrue(RealtimeProtocol.shouldReconnect(1000));
+        assertTrue(RealtimeProtocol.shouldReconnect(1011));
+        assertTrue(RealtimeProtocol.shouldReconnect(502));
+    }
+}
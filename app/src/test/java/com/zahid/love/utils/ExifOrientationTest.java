@@ -0,0 +1,45 @@
+package com.zahid.love.utils;
+
+import org.junit.Test;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class ExifOrientationTest {
+
+    @Test
+    public void readsOrientationInEitherByteOrder() throws IOException {
+        // Big-endian block after a JFIF header, with another tag ahead of the orientation
+        assertEquals(ExifOrientation.ROTATE_90, read("rotate_90_motorola.jpg"));
+        // Little-endian block straight after SOI
+        assertEquals(ExifOrientation.ROTATE_270, read("rotate_270_intel.jpg"));
+        assertEquals(ExifOrientation.FLIP_HORIZONTAL, read("flip_horizontal.jpg"));
+    }
+
+    @Test
+    public void skipsAnXmpBlockAheadOfTheExifOne() throws IOException {
+        assertEquals(ExifOrientation.ROTATE_180, read("rotate_180_after_xmp.jpg"));
+    }
+
+    @Test
+    public void imagesWithoutAnOrientationAreNormal() throws IOException {
+        String[] fixtures = {
+                "no_exif.jpg", "no_orientation_tag.jpg", "out_of_range.jpg", "truncated.jpg", "screenshot.png"
+        };
+        for (String fixture : fixtures) {
+            assertEquals(fixture, ExifOrientation.NORMAL, read(fixture));
+        }
+    }
+
+    private static int read(String fixture) throws IOException {
+        InputStream in = ExifOrientationTest.class.getResourceAsStream("/exif/" + fixture);
+        assertNotNull(fixture, in);
+        try (InputStream stream = new BufferedInputStream(in)) {
+            return ExifOrientation.read(stream);
+        }
+    }
+}
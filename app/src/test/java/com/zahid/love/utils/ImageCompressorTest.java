@@ -0,0 +1,36 @@
+package com.zahid.love.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ImageCompressorTest {
+
+    @Test
+    public void sampleSizeForCommonSources() {
+        int avatar = ImageCompressor.Spec.AVATAR.maxDimension;
+        int proof = ImageCompressor.Spec.TOURNAMENT_PROOF.maxDimension;
+
+        // 12 MP camera original: 4032 / 4 = 1008 still covers 512, 4032 / 8 = 504 would not
+        assertEquals(4, ImageCompressor.sampleSizeFor(4032, 3024, avatar));
+        assertEquals(2, ImageCompressor.sampleSizeFor(4032, 3024, proof));
+        // Portrait phone screenshot
+        assertEquals(2, ImageCompressor.sampleSizeFor(1080, 2400, avatar));
+        assertEquals(1, ImageCompressor.sampleSizeFor(1080, 2400, proof));
+        // Already small enough
+        assertEquals(1, ImageCompressor.sampleSizeFor(400, 300, avatar));
+    }
+
+    @Test
+    public void sampledSideNeverDropsBelowTheTarget() {
+        for (int longest = 1; longest <= 5000; longest += 7) {
+            int sampleSize = ImageCompressor.sampleSizeFor(longest, longest / 2, 512);
+            assertEquals("power of two for " + longest, 0, sampleSize & (sampleSize - 1));
+            if (sampleSize > 1) {
+                assertTrue("undershoot for " + longest, longest / sampleSize >= 512);
+            }
+            assertTrue("stopped early for " + longest, longest / (sampleSize * 2) < 512);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.zahid.love.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class IsoDatesTest {
+
+    // 2024-05-01T12:30:00Z
+    private static final long MAY_FIRST = 1_714_566_600_000L;
+
+    @Test
+    public void parsesLaravelTimestamps() {
+        assertEquals(MAY_FIRST, IsoDates.parseEpoch("2024-05-01T12:30:00.000000Z"));
+        assertEquals(MAY_FIRST + 123, IsoDates.parseEpoch("2024-05-01T12:30:00.123456Z"));
+        assertEquals(MAY_FIRST, IsoDates.parseEpoch("2024-05-01T12:30:00Z"));
+        assertEquals(MAY_FIRST, IsoDates.parseEpoch("2024-05-01T18:30:00+06:00"));
+        assertEquals(MAY_FIRST, IsoDates.parseEpoch("2024-05-01T07:00:00-0530"));
+    }
+
+    @Test
+    public void databaseValuesAreUtc() {
+        assertEquals(MAY_FIRST, IsoDates.parseEpoch("2024-05-01 12:30:00"));
+        assertEquals(0, IsoDates.parseEpoch("1970-01-01 00:00:00"));
+        // Leap day and the end of a century that is not a leap year
+        assertEquals(951_782_400_000L, IsoDates.parseEpoch("2000-02-29 00:00:00"));
+        assertEquals(4_107_542_400_000L, IsoDates.parseEpoch("2100-03-01 00:00:00"));
+    }
+
+    @Test
+    public void malformedValuesAreMinusOne() {
+        String[] values = {
+                null, "", "yesterday", "2024-05-01", "2024-13-01 00:00:00", "2023-02-29 00:00:00",
+                "2024-04-31 00:00:00", "2024-05-01 24:00:00", "2024-05-01T12:30:00+19:00",
+                "2024-05-01T12:30:00.Z", " 2024-05-01 12:30:00"
+        };
+        for (String value : values) {
+            assertEquals(value, -1, IsoDates.parseEpoch(value));
+        }
+    }
+}
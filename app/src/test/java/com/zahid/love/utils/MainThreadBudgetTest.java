@@ -0,0 +1,37 @@
+package com.zahid.love.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MainThreadBudgetTest {
+
+    @Test
+    public void storingAMappedResultFitsTheBudget() {
+        // What the main thread is left with once mapping runs in the background
+        Object[] slot = new Object[1];
+        long elapsedMs = MainThreadBudget.measure(() -> slot[0] = new Object());
+
+        assertFalse(MainThreadBudget.isOverBudget(elapsedMs));
+    }
+
+    @Test
+    public void workLongerThanTheBudgetIsFlagged() {
+        long elapsedMs = MainThreadBudget.measure(() -> {
+            try {
+                Thread.sleep(MainThreadBudget.BUDGET_MS * 3);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertTrue(MainThreadBudget.isOverBudget(elapsedMs));
+    }
+
+    @Test
+    public void budgetIsInclusive() {
+        assertFalse(MainThreadBudget.isOverBudget(MainThreadBudget.BUDGET_MS));
+        assertTrue(MainThreadBudget.isOverBudget(MainThreadBudget.BUDGET_MS + 1));
+    }
+}